@@ -0,0 +1,108 @@
+package idorm.idormServer.fcm.service;
+
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import idorm.idormServer.fcm.domain.NotifyType;
+import idorm.idormServer.fcm.dto.FcmRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 푸시 알림 메시지 생성 벤치마크 |
+ * 토큰마다 알림 내용과 Android / APNs 설정을 새로 만들던 이전 방식과, NotificationTemplate을 알림마다 한 번 만들고
+ * 토큰만 붙이는 현재 방식을 비교한다.
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인한다. 예) -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationTemplateBenchmark {
+
+    @Param("10000")
+    private int tokenCount;
+
+    private FcmRequest.Notification notification;
+    private List<String> tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        notification = FcmRequest.Notification.builder()
+                .notifyType(NotifyType.COMMENT)
+                .contentId(1L)
+                .title("새로운 댓글이 달렸습니다.")
+                .content("기숙사 공지 확인하셨나요?")
+                .build();
+
+        tokens = new ArrayList<>(tokenCount);
+        for (int i = 0; i < tokenCount; i++)
+            tokens.add(UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public void perTokenBuild(Blackhole blackhole) {
+        for (String token : tokens)
+            blackhole.consume(buildMessage(notification, token));
+    }
+
+    @Benchmark
+    public void template(Blackhole blackhole) {
+        NotificationTemplate template = NotificationTemplate.from(notification);
+        for (String token : tokens)
+            blackhole.consume(template.toMessage(token));
+    }
+
+    private Message buildMessage(FcmRequest.Notification notification, String token) {
+        return Message.builder()
+                .putData("channelId", notification.getNotifyType().toString())
+                .putData("contentId", notification.getContentId().toString())
+                .putData("title", notification.getTitle())
+                .putData("content", notification.getContent())
+                .setNotification(Notification.builder()
+                        .setTitle(notification.getTitle())
+                        .setBody(notification.getContent())
+                        .build()
+                )
+                .setAndroidConfig(AndroidConfig.builder()
+                        .setTtl(3600 * 1000) // 1hr
+                        .setPriority(AndroidConfig.Priority.HIGH)
+                        .setNotification(AndroidNotification.builder()
+                                .setClickAction(notification.getNotifyType().toString())
+                                .setChannelId(notification.getNotifyType().toString())
+                                .build()
+                        )
+                        .build()
+                )
+                .setApnsConfig(ApnsConfig.builder()
+                        .setAps(Aps.builder()
+                                .setSound("default")
+                                .setContentAvailable(true)
+                                .setCategory(notification.getNotifyType().toString())
+                                .build())
+                        .build()
+                )
+                .setToken(token)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package idorm.idormServer.matchingMate.service;
+
+import idorm.idormServer.matchingMate.domain.MatchingCandidate;
+import idorm.idormServer.matchingMate.domain.MatchingCandidateFixture;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 싫어요한 회원 제외 벤치마크 |
+ * 후보 목록마다 싫어요 목록 전체를 훑던 이전 중첩 반복과, 식별자를 해시 집합으로 한 번 모아서 거르는 현재
+ * MatchingMateService.excludeSelfAndDislikedMembers 방식을 비교한다.
+ * 두 경로 모두 이미 조회한 같은 후보 / 싫어요 식별자 목록에서 제외 단계만 측정하고, 조회 쿼리와 목 객체는 거치지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchingMateExclusionBenchmark {
+
+    private static final long LOGIN_MEMBER_ID = 0L;
+
+    @Param("10000")
+    private int candidateCount;
+
+    @Param("500")
+    private int dislikedCount;
+
+    private List<MatchingCandidate> candidates;
+    private List<Long> dislikedMemberIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        candidates = new ArrayList<>(candidateCount);
+        for (long memberId = 1; memberId <= candidateCount; memberId++)
+            candidates.add(MatchingCandidateFixture.candidate(memberId, 20 + (int) (memberId % 10), 0));
+
+        List<Long> memberIds = new ArrayList<>();
+        for (long memberId = 1; memberId <= candidateCount; memberId++)
+            memberIds.add(memberId);
+        Collections.shuffle(memberIds, new Random(42));
+        dislikedMemberIds = List.copyOf(memberIds.subList(0, dislikedCount));
+    }
+
+    @Benchmark
+    public List<MatchingCandidate> nestedLoop() {
+        List<MatchingCandidate> foundCandidates = new ArrayList<>(candidates);
+        foundCandidates.removeIf(candidate -> candidate.getMemberId() == LOGIN_MEMBER_ID);
+
+        Iterator<MatchingCandidate> iterator = foundCandidates.iterator();
+
+        while (iterator.hasNext()) {
+            MatchingCandidate targetCandidate = iterator.next();
+
+            for (Long dislikedMemberId : dislikedMemberIds) {
+                if (Objects.equals(targetCandidate.getMemberId(), dislikedMemberId)) {
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+        return foundCandidates;
+    }
+
+    @Benchmark
+    public List<MatchingCandidate> hashSet() {
+        List<MatchingCandidate> foundCandidates = new ArrayList<>(candidates);
+
+        Set<Long> excludedMemberIds = new HashSet<>(dislikedMemberIds);
+        excludedMemberIds.add(LOGIN_MEMBER_ID);
+        foundCandidates.removeIf(candidate -> excludedMemberIds.contains(candidate.getMemberId()));
+        return foundCandidates;
+    }
+}
@@ -1,8 +1,10 @@
 package idorm.idormServer.auth;
 
-import idorm.idormServer.member.domain.Member;
-import idorm.idormServer.member.repository.MemberRepository;
+import idorm.idormServer.auth.dto.AuthInfo;
+import idorm.idormServer.auth.service.LoginMemberCache;
+import idorm.idormServer.common.exception.CustomException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,19 +14,24 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     @Autowired
-    private MemberRepository memberRepository;
+    private LoginMemberCache loginMemberCache;
 
+    /**
+     * 회원 엔티티 대신 로그인 회원 캐시에서 인증 주체를 만든다.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) {
 
-        Member foundMember = memberRepository.findById(Long.parseLong(username))
-                .orElseThrow(() -> {
-                    throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
-                });
-
-        if (foundMember.getIsDeleted())
+        AuthInfo authInfo;
+        try {
+            authInfo = loginMemberCache.get(Long.parseLong(username));
+        } catch (CustomException e) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
-        return foundMember;
+        return User.withUsername(String.valueOf(authInfo.getId()))
+                .password("")
+                .roles(authInfo.getRole())
+                .build();
     }
 }
\ No newline at end of file
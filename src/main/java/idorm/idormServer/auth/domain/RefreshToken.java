@@ -1,18 +1,32 @@
 package idorm.idormServer.auth.domain;
 
-import idorm.idormServer.common.exception.CustomException;
-import idorm.idormServer.common.exception.ExceptionCode;
+import idorm.idormServer.common.util.Sha256;
+import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 회원별 리프레시 토큰 |
+ * 토큰 원문 대신 SHA-256 해시만 저장하고, 회원마다 한 행만 둔다.
+ * 발급은 RefreshTokenRepository.upsert로 한 번에 교체하고, 만료된 행은 스케줄러가 주기적으로 지운다.
+ */
 @Entity
 @Getter
+@Table(name = "refresh_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_token_member_id", columnNames = "member_id"),
+                @UniqueConstraint(name = "uk_refresh_token_token_hash", columnNames = "token_hash")
+        },
+        indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
 
@@ -24,17 +38,13 @@ public class RefreshToken {
     @Column(name = "member_id", nullable = false)
     private Long memberId;
 
-    @Column(name = "refresh_token", nullable = false)
-    private String token;
+    @Column(name = "token_hash", nullable = false, columnDefinition = "CHAR(" + Sha256.HEX_LENGTH + ")")
+    private String tokenHash;
 
-    public RefreshToken(Long memberId, String token) {
-        this.memberId = memberId;
-        this.token = token;
-    }
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 
-    public void validateSameToken(final String token) {
-        if (!this.token.equals(token)) {
-            throw new CustomException(null, ExceptionCode.UNAUTHORIZED_REFRESH_MEMBER);
-        }
+    public static String hash(String token) {
+        return Sha256.hex(token);
     }
 }
@@ -1,12 +1,42 @@
 package idorm.idormServer.auth.repository;
 
 import idorm.idormServer.auth.domain.RefreshToken;
-import java.util.Optional;
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByMemberId(Long memberId);
+    /**
+     * 리프레시 토큰 발급 / 교체 |
+     * member_id 유일 키를 이용해서 조회 없이 한 번의 쿼리로 기존 토큰을 교체한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO refresh_token (member_id, token_hash, expires_at) " +
+            "VALUES (:memberId, :tokenHash, :expiresAt) " +
+            "ON DUPLICATE KEY UPDATE token_hash = VALUES(token_hash), expires_at = VALUES(expires_at)",
+            nativeQuery = true)
+    int upsert(@Param("memberId") Long memberId,
+               @Param("tokenHash") String tokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
 
-    void deleteAllByMemberId(Long memberId);
+    boolean existsByMemberIdAndTokenHashAndExpiresAtAfter(Long memberId, String tokenHash, LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM RefreshToken t WHERE t.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 만료된 리프레시 토큰 삭제 |
+     * 묶음마다 커밋하도록 호출하는 쪽 트랜잭션 없이 불리므로 자체 트랜잭션으로 실행한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM refresh_token " +
+            "WHERE expires_at <= :now " +
+            "LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
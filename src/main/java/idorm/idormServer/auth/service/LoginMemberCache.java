@@ -0,0 +1,58 @@
+package idorm.idormServer.auth.service;
+
+import idorm.idormServer.auth.dto.AuthInfo;
+import idorm.idormServer.common.exception.CustomException;
+import idorm.idormServer.common.util.ExpiringCache;
+import idorm.idormServer.common.util.TransactionCallbacks;
+import idorm.idormServer.member.domain.Member;
+import idorm.idormServer.member.repository.MemberRepository;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+import static idorm.idormServer.common.exception.ExceptionCode.MEMBER_NOT_FOUND;
+
+/**
+ * 로그인 회원 캐시 |
+ * 요청마다 회원을 조회하지 않도록 회원 식별자별로 (식별자, 권한, 닉네임)을 짧게 보관한다.
+ * 닉네임 / 비밀번호 / 권한 변경과 탈퇴 시에는 커밋 이후에 비우고, 다른 서버의 캐시는 TTL이 지나면 갱신된다.
+ */
+@Component
+public class LoginMemberCache {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private final MemberRepository memberRepository;
+    private final ExpiringCache<Long, AuthInfo> cache;
+
+    public LoginMemberCache(MemberRepository memberRepository, Clock clock) {
+        this.memberRepository = memberRepository;
+        this.cache = new ExpiringCache<>(clock, TTL, MAXIMUM_SIZE);
+    }
+
+    /**
+     * 로그인 회원 조회 |
+     * 404(MEMBER_NOT_FOUND)
+     */
+    public AuthInfo get(Long memberId) {
+        AuthInfo authInfo = cache.get(memberId, this::load);
+        if (authInfo == null)
+            throw new CustomException(null, MEMBER_NOT_FOUND);
+        return authInfo;
+    }
+
+    public void evict(Long memberId) {
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(memberId));
+    }
+
+    private AuthInfo load(Long memberId) {
+        return memberRepository.findByIdAndMemberStatusIsActive(memberId)
+                .map(this::toAuthInfo)
+                .orElse(null);
+    }
+
+    private AuthInfo toAuthInfo(Member member) {
+        return new AuthInfo(member.getId(), member.getRoleType().getName(), member.getNickname().getValue());
+    }
+}
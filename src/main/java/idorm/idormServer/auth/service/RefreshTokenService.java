@@ -4,43 +4,68 @@ import idorm.idormServer.auth.domain.RefreshToken;
 import idorm.idormServer.auth.repository.RefreshTokenRepository;
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.common.exception.ExceptionCode;
-import idorm.idormServer.support.token.TokenManager;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
 public class RefreshTokenService {
 
+    private static final int EXPIRED_TOKEN_SWEEP_CHUNK_SIZE = 1000;
+
     private final RefreshTokenRepository refreshTokenRepository;
-    private final TokenManager tokenManager;
+    private final Clock clock;
+    private final long refreshTokenValidityMilliseconds;
 
-    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, TokenManager tokenManager) {
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               Clock clock,
+                               @Value("${security.jwt.token.expire-length.refresh}") long refreshTokenValidityMilliseconds) {
         this.refreshTokenRepository = refreshTokenRepository;
-        this.tokenManager = tokenManager;
+        this.clock = clock;
+        this.refreshTokenValidityMilliseconds = refreshTokenValidityMilliseconds;
     }
 
     @Transactional
     public void saveToken(String token, Long memberId) {
-        deleteToken(memberId);
-        RefreshToken refreshToken = new RefreshToken(memberId, token);
-        refreshTokenRepository.save(refreshToken);
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plusNanos(refreshTokenValidityMilliseconds * 1_000_000);
+        refreshTokenRepository.upsert(memberId, RefreshToken.hash(token), expiresAt);
     }
 
-    @Transactional
+    /**
+     * 리프레시 토큰 확인 |
+     * 저장된 해시와 같고 만료되지 않은 토큰만 통과한다.
+     * 401(UNAUTHORIZED_REFRESH_MEMBER)
+     */
     public void matches(String refreshToken, Long memberId) {
-        RefreshToken savedToken = refreshTokenRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new CustomException(null, ExceptionCode.UNAUTHORIZED_REFRESH_MEMBER));
-
-        if (!tokenManager.isValid(savedToken.getToken())) {
-            refreshTokenRepository.delete(savedToken);
+        if (refreshToken == null
+                || !refreshTokenRepository.existsByMemberIdAndTokenHashAndExpiresAtAfter(memberId,
+                RefreshToken.hash(refreshToken), LocalDateTime.now(clock))) {
             throw new CustomException(null, ExceptionCode.UNAUTHORIZED_REFRESH_MEMBER);
         }
-        savedToken.validateSameToken(refreshToken);
     }
 
     @Transactional
     public void deleteToken(Long memberId) {
-        refreshTokenRepository.deleteAllByMemberId(memberId);
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+    /**
+     * 만료된 리프레시 토큰 정리 |
+     * 한 번에 지우는 행 수를 제한해서 잠금을 짧게 유지하고, 묶음마다 별도 트랜잭션으로 커밋한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(now, EXPIRED_TOKEN_SWEEP_CHUNK_SIZE);
+            total += deleted;
+        } while (deleted == EXPIRED_TOKEN_SWEEP_CHUNK_SIZE);
+        return total;
     }
 }
@@ -1,10 +1,12 @@
 package idorm.idormServer.calendar.controller;
 
 import idorm.idormServer.calendar.domain.OfficialCalendar;
+import idorm.idormServer.calendar.dto.CalendarMonthView;
 import idorm.idormServer.calendar.dto.CrawledOfficialCalendarResponse;
 import idorm.idormServer.calendar.dto.OfficialCalendarResponse;
 import idorm.idormServer.calendar.dto.OfficialCalendarUpdateRequest;
 import idorm.idormServer.calendar.dto.OfficialCalendarsFindRequest;
+import idorm.idormServer.calendar.service.CalendarMonthCache;
 import idorm.idormServer.calendar.service.OfficialCalendarService;
 import idorm.idormServer.common.dto.DefaultResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Comparator;
@@ -38,6 +42,7 @@ import static idorm.idormServer.config.SecurityConfig.API_ROOT_URL_V1;
 public class OfficialCalendarController {
 
     private final OfficialCalendarService calendarService;
+    private final CalendarMonthCache calendarMonthCache;
 
     @Operation(summary = "[관리자 용] 공식 일정 저장 및 수정")
     @ApiResponses(value = {
@@ -162,6 +167,7 @@ public class OfficialCalendarController {
                     responseCode = "200",
                     description = "CALENDAR_MANY_FOUND",
                     content = @Content(schema = @Schema(implementation = OfficialCalendarResponse.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 값이 ETag와 같으면 본문 없이 응답합니다."),
             @ApiResponse(responseCode = "400",
                     description = "ILLEGAL_ARGUMENT_DATE_SET"),
             @ApiResponse(responseCode = "401",
@@ -173,22 +179,31 @@ public class OfficialCalendarController {
     })
     @PostMapping("/member/calendars")
     public ResponseEntity<DefaultResponseDto<Object>> findManyByMember(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestBody @Valid OfficialCalendarsFindRequest request
     ) {
 
-        List<OfficialCalendar> calendars = calendarService.findManyByYearMonth(request.getYearMonth());
+        LocalDate today = LocalDateTime.now().plusHours(9).toLocalDate();
 
-        calendars.removeIf(calendar -> calendar.getEndDate().isBefore(LocalDateTime.now().plusHours(9).toLocalDate()));
-        calendars.sort(Comparator.comparing(OfficialCalendar::getId, Comparator.reverseOrder()));
+        CalendarMonthView view = calendarMonthCache.getOfficial(request.getYearMonth(), today, () -> {
+            List<OfficialCalendar> calendars = calendarService.findManyByYearMonth(request.getYearMonth());
 
-        List<OfficialCalendarResponse> responses = calendars.stream()
-                .map(OfficialCalendarResponse::new).collect(Collectors.toList());
+            calendars.removeIf(calendar -> calendar.getEndDate().isBefore(today));
+            calendars.sort(Comparator.comparing(OfficialCalendar::getId, Comparator.reverseOrder()));
+
+            return calendars.stream()
+                    .map(OfficialCalendarResponse::new).collect(Collectors.toList());
+        });
+
+        if (view.matches(ifNoneMatch))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(view.eTag()).build();
 
         return ResponseEntity.status(200)
+                .eTag(view.eTag())
                 .body(DefaultResponseDto.builder()
                         .responseCode("OFFICIAL_CALENDARS_FOUND")
                         .responseMessage("월별 공식 일정 다건 조회")
-                        .data(responses)
+                        .data(view.body())
                         .build()
                 );
     }
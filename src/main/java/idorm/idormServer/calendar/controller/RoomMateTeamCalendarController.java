@@ -4,6 +4,7 @@ import idorm.idormServer.auth.JwtTokenProvider;
 import idorm.idormServer.calendar.domain.Team;
 import idorm.idormServer.calendar.domain.TeamCalendar;
 import idorm.idormServer.calendar.dto.*;
+import idorm.idormServer.calendar.service.CalendarMonthCache;
 import idorm.idormServer.calendar.service.OfficialCalendarService;
 import idorm.idormServer.calendar.service.RoomMateTeamCalendarService;
 import idorm.idormServer.calendar.service.RoomMateTeamService;
@@ -20,6 +21,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -51,6 +53,7 @@ public class RoomMateTeamCalendarController {
     private final RoomMateTeamCalendarService teamCalendarService;
     private final RoomMateTeamService teamService;
     private final OfficialCalendarService calendarService;
+    private final CalendarMonthCache calendarMonthCache;
 
     @Operation(summary = "[팀] 일정 생성", description = "- targets 필드는 회원 식별자 배열을 주세요")
     @ApiResponses(value = {
@@ -354,6 +357,7 @@ public class RoomMateTeamCalendarController {
             @ApiResponse(
                     responseCode = "200", description = "TEAM_CALENDERS_FOUND",
                     content = @Content(schema = @Schema(implementation = RoomMateCalendarSummaryResponse.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 값이 ETag와 같으면 본문 없이 응답합니다."),
             @ApiResponse(responseCode = "400", description = "YEARMONTH_FIELD_REQUIRED"),
             @ApiResponse(responseCode = "404",
                     description = "- MEMBER_NOT_FOUND\n- TEAM_NOT_FOUND"),
@@ -362,6 +366,7 @@ public class RoomMateTeamCalendarController {
     @PostMapping("/member/team/calendars")
     public ResponseEntity<DefaultResponseDto<Object>> findTeamCalenders(
             HttpServletRequest servletRequest,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestBody @Valid OfficialCalendarsFindRequest request
     ) {
 
@@ -369,28 +374,35 @@ public class RoomMateTeamCalendarController {
         Member member = memberService.findById(memberId);
         Team team = teamService.findByMember(member);
 
-        List<TeamCalendar> teamCalendars = teamCalendarService.findManyByYearMonth(team, request.getYearMonth());
+        CalendarMonthView view = calendarMonthCache.getTeam(team.getId(), request.getYearMonth(), () -> {
+            List<TeamCalendar> teamCalendars = teamCalendarService.findManyByYearMonth(team, request.getYearMonth());
 
-        List<RoomMateCalendarSummaryResponse> responses = new ArrayList<>();
+            List<RoomMateCalendarSummaryResponse> responses = new ArrayList<>();
 
-        for (TeamCalendar teamCalendar : teamCalendars) {
-            List<Member> targetMembers = teamCalendarService.validateTeamMemberExistenceForFind(teamCalendar);
+            for (TeamCalendar teamCalendar : teamCalendars) {
+                List<Member> targetMembers = teamCalendarService.validateTeamMemberExistenceForFind(teamCalendar);
 
-            if (targetMembers == null)
-                continue;
+                if (targetMembers == null)
+                    continue;
 
-            List<RoomMateResponse> childResponses = targetMembers.stream()
-                    .map(targetMember -> new RoomMateResponse(targetMember, memberPhotoService.findByMember(targetMember)))
-                    .collect(Collectors.toList());
+                List<RoomMateResponse> childResponses = targetMembers.stream()
+                        .map(targetMember -> new RoomMateResponse(targetMember, memberPhotoService.findByMember(targetMember)))
+                        .collect(Collectors.toList());
 
-            responses.add(new RoomMateCalendarSummaryResponse(teamCalendar, childResponses));
-        }
+                responses.add(new RoomMateCalendarSummaryResponse(teamCalendar, childResponses));
+            }
+            return responses;
+        });
+
+        if (view.matches(ifNoneMatch))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(view.eTag()).build();
 
         return ResponseEntity.status(200)
+                .eTag(view.eTag())
                 .body(DefaultResponseDto.builder()
                         .responseCode("TEAM_CALENDERS_FOUND")
                         .responseMessage("팀 일정 월별 조회 완료")
-                        .data(responses)
+                        .data(view.body())
                         .build()
                 );
     }
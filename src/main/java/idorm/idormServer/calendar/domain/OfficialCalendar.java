@@ -16,6 +16,10 @@ import java.time.LocalDate;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_official_calendar_period", columnList = "is_deleted, is_public, start_date, end_date"),
+        @Index(name = "idx_official_calendar_inu_post_created_at", columnList = "is_deleted, inu_post_created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OfficialCalendar extends BaseTimeEntity {
 
@@ -44,7 +48,7 @@ public class OfficialCalendar extends BaseTimeEntity {
     private Title title;
 
     @NotNull
-    @Column(nullable = false)
+    @Column(name = "is_public", nullable = false)
     private Boolean isPublic;
 
     // 크롤링 등록, 수정 불가
@@ -57,11 +61,11 @@ public class OfficialCalendar extends BaseTimeEntity {
     private String inuPostUrl;
 
     @NotNull
-    @Column(nullable = false)
+    @Column(name = "inu_post_created_at", nullable = false)
     private LocalDate inuPostCreatedAt;
 
     @NotNull
-    @Column(nullable = false)
+    @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted;
 
     @Builder
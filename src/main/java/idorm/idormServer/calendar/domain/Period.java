@@ -19,11 +19,11 @@ import lombok.NoArgsConstructor;
 public class Period {
 
     @NotNull
-    @Column(nullable = false)
+    @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
 
     @NotNull
-    @Column(nullable = false)
+    @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
     public Period(LocalDate startDate, LocalDate endDate) {
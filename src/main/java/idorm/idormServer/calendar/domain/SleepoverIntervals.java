@@ -0,0 +1,109 @@
+package idorm.idormServer.calendar.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 단위 외박 일정 구간 인덱스 |
+ * 조회 전용 불변 스냅샷이다.
+ * 일정은 시작일 순으로 정렬된 배열 위의 균형 이진 트리로 보고, 노드마다 하위 트리의 최대 종료일을 함께 보관한다.
+ * 겹치는 일정 조회는 O(log n + k) 이다.
+ */
+public class SleepoverIntervals {
+
+    private final Map<Long, Sleepover> sleepovers;
+    private final List<Sleepover> values;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private SleepoverIntervals(Map<Long, Sleepover> sleepovers) {
+        List<Sleepover> sorted = new ArrayList<>(sleepovers.values());
+        sorted.sort(Comparator.comparing(Sleepover::startDate)
+                .thenComparing(Sleepover::teamCalendarId));
+
+        this.sleepovers = sleepovers;
+        this.values = Collections.unmodifiableList(sorted);
+        this.starts = new long[sorted.size()];
+        this.ends = new long[sorted.size()];
+        this.maxEnds = new long[sorted.size()];
+
+        for (int i = 0; i < sorted.size(); i++) {
+            starts[i] = sorted.get(i).startDate().toEpochDay();
+            ends[i] = sorted.get(i).endDate().toEpochDay();
+        }
+        buildMaxEnds(0, sorted.size() - 1);
+    }
+
+    public static SleepoverIntervals of(Collection<Sleepover> sleepovers) {
+        Map<Long, Sleepover> byTeamCalendarId = new HashMap<>(sleepovers.size() * 2);
+        sleepovers.forEach(sleepover -> byTeamCalendarId.put(sleepover.teamCalendarId(), sleepover));
+        return new SleepoverIntervals(byTeamCalendarId);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 기간이 겹치는 외박 일정 조회 |
+     * startDate, endDate 모두 포함하는 구간으로 본다.
+     */
+    public List<Sleepover> findOverlapping(LocalDate startDate, LocalDate endDate) {
+        List<Sleepover> overlapping = new ArrayList<>();
+        collect(0, values.size() - 1, startDate.toEpochDay(), endDate.toEpochDay(), overlapping);
+        return overlapping;
+    }
+
+    /**
+     * 특정 날짜에 외박 중인 일정 조회 |
+     */
+    public List<Sleepover> findOn(LocalDate date) {
+        return findOverlapping(date, date);
+    }
+
+    private long buildMaxEnds(int low, int high) {
+        if (low > high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        maxEnds[mid] = Math.max(ends[mid], Math.max(buildMaxEnds(low, mid - 1), buildMaxEnds(mid + 1, high)));
+        return maxEnds[mid];
+    }
+
+    private void collect(int low, int high, long from, long to, List<Sleepover> overlapping) {
+        if (low > high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxEnds[mid] < from) {
+            return;
+        }
+
+        collect(low, mid - 1, from, to, overlapping);
+
+        if (starts[mid] > to) {
+            return;
+        }
+        if (ends[mid] >= from) {
+            overlapping.add(values.get(mid));
+        }
+        collect(mid + 1, high, from, to, overlapping);
+    }
+
+    public record Sleepover(long teamCalendarId, LocalDate startDate, LocalDate endDate, List<Long> targets) {
+
+        public static Sleepover from(TeamCalendar teamCalendar) {
+            return new Sleepover(teamCalendar.getId(),
+                    teamCalendar.getPeriod().getStartDate(),
+                    teamCalendar.getPeriod().getEndDate(),
+                    List.copyOf(teamCalendar.getTargets()));
+        }
+    }
+}
@@ -7,18 +7,24 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_team_calendar_team_period",
+        columnList = "team_id, is_deleted, start_date, end_date"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TeamCalendar extends BaseTimeEntity {
 
+    private static final int TARGETS_BATCH_SIZE = 100;
+
     @Id
     @Column(name = "team_schedule_id")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,18 +42,27 @@ public class TeamCalendar extends BaseTimeEntity {
     @Embedded
     private Content content;
 
+    @Column(nullable = false)
+    private Boolean isSleepover;
+
+    @Column(name = "is_deleted")
     private Boolean isDeleted;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
 
-    // 일정 참여자들 - 리팩 대상
+    // 일정 참여자들 - 월별 조회 시 여러 일정의 대상자를 한 번에 적재한다.
+    @BatchSize(size = TARGETS_BATCH_SIZE)
     @ElementCollection
     @CollectionTable(name = "room_mate_team_calendar_target",
-            joinColumns = @JoinColumn(name = "room_mate_team_calendar_id"))
-    @Column(name = "target_member_id")
-    private List<Long> targets = new ArrayList<>();
+            joinColumns = @JoinColumn(name = "room_mate_team_calendar_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_team_calendar_target",
+                    columnNames = {"room_mate_team_calendar_id", "target_member_id"}),
+            indexes = @Index(name = "idx_team_calendar_target_member", columnList = "target_member_id"))
+    @OrderBy
+    @Column(name = "target_member_id", nullable = false)
+    private Set<Long> targets = new LinkedHashSet<>();
 
     // TODO: 핵심 비지니스 로직 리팩 대상
     @Builder
@@ -68,8 +83,7 @@ public class TeamCalendar extends BaseTimeEntity {
         this.content = content;
         this.isSleepover = isSleepover;
 
-        for (Long target : targets)
-            this.targets.add(target);
+        this.targets.addAll(targets);
 
         this.setIsDeleted(false);
 
@@ -95,15 +109,16 @@ public class TeamCalendar extends BaseTimeEntity {
         this.endDate = request.getEndDate();
     }
 
+    /**
+     * 바뀐 대상자만 추가 / 삭제해서, 유지되는 대상자 행은 다시 쓰지 않는다.
+     */
     private void updateTargets(List<Long> newTargets) {
-        this.targets.clear();
-        for (Long target : newTargets)
-            this.targets.add(target);
+        this.targets.retainAll(newTargets);
+        this.targets.addAll(newTargets);
     }
 
     public void deleteTarget(Long target) {
-        if (this.targets.contains(target))
-            this.targets.remove(target);
+        this.targets.remove(target);
     }
 
     public void delete() {
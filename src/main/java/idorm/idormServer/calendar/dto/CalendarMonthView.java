@@ -0,0 +1,26 @@
+package idorm.idormServer.calendar.dto;
+
+import java.util.Arrays;
+
+/**
+ * 월별 일정 조회 캐시 항목 |
+ * body는 응답 data 그대로이고, eTag는 body를 직렬화한 값의 해시다.
+ */
+public record CalendarMonthView(long version, String eTag, Object body) {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * If-None-Match 헤더 값과 일치하는지 확인한다. 약한 비교로 W/ 접두어는 무시한다.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank())
+            return false;
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                .anyMatch(tag -> tag.equals(ANY) || tag.equals(eTag));
+    }
+}
@@ -0,0 +1,8 @@
+package idorm.idormServer.calendar.dto;
+
+/**
+ * 팀 일정 알림 대상 조회용 프로젝션 |
+ * 일정 하나와 대상자 토큰 하나의 조합이다.
+ */
+public record TeamCalendarReminder(Long teamCalendarId, String title, Long memberFcmId, String fcmToken) {
+}
@@ -5,52 +5,66 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface OfficialCalendarRepository extends JpaRepository<OfficialCalendar, Long> {
 
     Optional<OfficialCalendar> findByIdAndIsDeletedIsFalse(Long id);
 
-    boolean existsByInuPostIdAndIsDeletedIsFalse(String inuPostId);
-
-    @Query(value = "SELECT * " +
-            "FROM official_calendar c " +
-            "WHERE (c.inu_post_created_at LIKE :now " +
-            "OR c.inu_post_created_at LIKE :lastWeek) " +
-            "AND c.is_deleted = 0", nativeQuery = true)
-    List<OfficialCalendar> findByMonthByAdmin(String now, String lastWeek);
-
-    @Query(value = "SELECT * " +
-            "FROM official_calendar c " +
-            "WHERE (c.start_date LIKE :yearMonth " +
-            "OR c.end_date LIKE :yearMonth) " +
-            "AND c.is_deleted = 0 " +
-            "AND c.is_public = 1", nativeQuery = true)
-    List<OfficialCalendar> findByMonthByMember(@Param("yearMonth") String yearMonth);
-
-    @Query(value = "SELECT * " +
-            "FROM official_calendar c " +
-            "WHERE c.is_dorm1yn = 1 " +
-            "AND c.start_date = DATE_FORMAT(DATE_ADD(NOW(), INTERVAL 9 HOUR), '%Y-%m-%d') " +
-            "AND c.is_deleted = 0 " +
-            "AND c.is_public = 1", nativeQuery = true)
-    List<OfficialCalendar> findCalendarsByDorm1AndTodayStartDate();
-
-    @Query(value = "SELECT * " +
-            "FROM official_calendar c " +
-            "WHERE c.is_dorm2yn = 1 " +
-            "AND c.start_date = DATE_FORMAT(DATE_ADD(NOW(), INTERVAL 9 HOUR), '%Y-%m-%d') " +
-            "AND c.is_deleted = 0 " +
-            "AND c.is_public = 1", nativeQuery = true)
-    List<OfficialCalendar> findCalendarsByDorm2AndTodayStartDate();
-
-    @Query(value = "SELECT * " +
-            "FROM official_calendar c " +
-            "WHERE c.is_dorm3yn = 1 " +
-            "AND c.start_date = DATE_FORMAT(DATE_ADD(NOW(), INTERVAL 9 HOUR), '%Y-%m-%d') " +
-            "AND c.is_deleted = 0 " +
-            "AND c.is_public = 1", nativeQuery = true)
-    List<OfficialCalendar> findCalendarsByDorm3AndTodayStartDate();
-}
+    @Query(value = "SELECT c.inuPostId " +
+            "FROM OfficialCalendar c " +
+            "WHERE c.inuPostId IN :inuPostIds " +
+            "AND c.isDeleted = false")
+    Set<String> findInuPostIdsIn(@Param("inuPostIds") Collection<String> inuPostIds);
+
+    /**
+     * 게시글 작성일 범위 조회 | 관리자 용 |
+     * inu_post_created_at 의 [from, to) 범위로 조회한다.
+     */
+    @Query(value = "SELECT c " +
+            "FROM OfficialCalendar c " +
+            "WHERE c.isDeleted = false " +
+            "AND c.inuPostCreatedAt >= :from " +
+            "AND c.inuPostCreatedAt < :to")
+    List<OfficialCalendar> findAllPostedBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 기간이 겹치는 공개 일정 조회 | 회원 용 |
+     * [from, to) 반개구간과 겹치는 일정을 조회한다.
+     */
+    @Query(value = "SELECT c " +
+            "FROM OfficialCalendar c " +
+            "WHERE c.isDeleted = false " +
+            "AND c.isPublic = true " +
+            "AND c.period.startDate < :to " +
+            "AND c.period.endDate >= :from")
+    List<OfficialCalendar> findAllPublicOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
 
+    @Query(value = "SELECT c " +
+            "FROM OfficialCalendar c " +
+            "WHERE c.isDeleted = false " +
+            "AND c.isPublic = true " +
+            "AND c.period.startDate = :today " +
+            "AND c.isDorm1Yn = true")
+    List<OfficialCalendar> findAllOfDorm1StartingOn(@Param("today") LocalDate today);
+
+    @Query(value = "SELECT c " +
+            "FROM OfficialCalendar c " +
+            "WHERE c.isDeleted = false " +
+            "AND c.isPublic = true " +
+            "AND c.period.startDate = :today " +
+            "AND c.isDorm2Yn = true")
+    List<OfficialCalendar> findAllOfDorm2StartingOn(@Param("today") LocalDate today);
+
+    @Query(value = "SELECT c " +
+            "FROM OfficialCalendar c " +
+            "WHERE c.isDeleted = false " +
+            "AND c.isPublic = true " +
+            "AND c.period.startDate = :today " +
+            "AND c.isDorm3Yn = true")
+    List<OfficialCalendar> findAllOfDorm3StartingOn(@Param("today") LocalDate today);
+}
@@ -1,9 +1,14 @@
 package idorm.idormServer.calendar.repository;
 
 import idorm.idormServer.calendar.domain.TeamCalendar;
+import idorm.idormServer.calendar.dto.TeamCalendarReminder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,40 +16,73 @@ public interface RoomMateTeamCalendarRepository extends JpaRepository<TeamCalend
 
     Optional<TeamCalendar> findByIdAndIsDeletedIsFalse(Long id);
 
-    @Query(value = "SELECT * " +
-            "FROM room_mate_team_calendar c " +
-            "WHERE c.room_mate_team_id = :teamId " +
-            "AND (c.start_date LIKE :yearMonth " +
-            "OR c.end_date LIKE :yearMonth) " +
-            "AND c.is_sleepover = :isSleepover " +
-            "AND c.is_deleted = 0", nativeQuery = true)
-    List<TeamCalendar> findTeamCalendars(Long teamId, String yearMonth, int isSleepover);
-
-    @Query(value = "SELECT * " +
-            "FROM room_mate_team_calendar c " +
-            "WHERE c.is_deleted = 0 " +
-            "AND c.room_mate_team_id = :teamId " +
-            "AND ((str_to_date(c.start_date, '%Y-%m-%d') <= :startDate " +
-            "AND :startDate <= str_to_date(c.end_date, '%Y-%m-%d')) " +
-            "OR (str_to_date(c.start_date, '%Y-%m-%d') <= :endDate " +
-            "AND :endDate <= str_to_date(c.end_date, '%Y-%m-%d'))) ", nativeQuery = true
-    )
-    List<TeamCalendar> findTeamCalendarsByDate(Long teamId, String startDate, String endDate);
-
-    @Query(value = "SELECT * " +
-            "FROM room_mate_team_calendar c " +
-            "WHERE c.is_deleted = 0 " +
-            "AND c.room_mate_team_id = :teamId " +
-            "AND c.is_sleepover = 1 " +
-            "AND (str_to_date(c.start_date, '%Y-%m-%d') <= str_to_date(DATE_ADD(NOW(), INTERVAL 9 HOUR), '%Y-%m-%d') " +
-            "AND str_to_date(DATE_ADD(NOW(), INTERVAL 9 HOUR), '%Y-%m-%d') <= str_to_date(c.end_date, '%Y-%m-%d'));"
-            , nativeQuery = true)
-    List<TeamCalendar> findTodaySleepoverMembersByTeam(Long teamId);
-
-    @Query(value = "SELECT * " +
-            "FROM room_mate_team_calendar c " +
-            "WHERE c.is_deleted = 0 " +
-            "and (str_to_date(c.start_date, '%Y-%m-%d') = str_to_date(DATE_ADD(NOW(), INTERVAL 9 HOUR), '%Y-%m-%d'))"
-            , nativeQuery = true)
-    List<TeamCalendar> findTeamCalendarsByStartDateIsToday();
+    /**
+     * 기간이 겹치는 팀 일정 조회 |
+     * [from, to) 반개구간과 겹치는 일정을 (team_id, is_deleted, start_date, end_date) 인덱스 범위로 조회한다.
+     */
+    @Query(value = "SELECT c " +
+            "FROM TeamCalendar c " +
+            "WHERE c.team.id = :teamId " +
+            "AND c.isDeleted = false " +
+            "AND c.period.startDate < :to " +
+            "AND c.period.endDate >= :from " +
+            "AND c.isSleepover = :isSleepover")
+    List<TeamCalendar> findOverlapping(@Param("teamId") Long teamId,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to,
+                                       @Param("isSleepover") boolean isSleepover);
+
+    @Query(value = "SELECT c " +
+            "FROM TeamCalendar c " +
+            "WHERE c.team.id = :teamId " +
+            "AND c.isDeleted = false " +
+            "AND c.isSleepover = true " +
+            "AND c.period.endDate >= :from")
+    List<TeamCalendar> findAllSleepoversOfTeamEndingFrom(@Param("teamId") Long teamId, @Param("from") LocalDate from);
+
+    @Query(value = "SELECT c.id " +
+            "FROM TeamCalendar c " +
+            "WHERE c.team.id = :teamId " +
+            "AND c.isDeleted = false " +
+            "AND :memberId MEMBER OF c.targets")
+    List<Long> findIdsByTeamAndTarget(@Param("teamId") Long teamId, @Param("memberId") Long memberId);
+
+    /**
+     * 여러 팀일정에서 대상자 한 명을 한 번에 삭제 |
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM room_mate_team_calendar_target " +
+            "WHERE target_member_id = :memberId " +
+            "AND room_mate_team_calendar_id IN (:teamCalendarIds)", nativeQuery = true)
+    int deleteTargetIn(@Param("teamCalendarIds") List<Long> teamCalendarIds, @Param("memberId") Long memberId);
+
+    /**
+     * 대상자가 남지 않은 팀일정 삭제 |
+     */
+    @Modifying
+    @Query(value = "UPDATE TeamCalendar c " +
+            "SET c.isDeleted = true " +
+            "WHERE c.id IN :teamCalendarIds " +
+            "AND c.targets IS EMPTY")
+    int deleteAllWithoutTargetsIn(@Param("teamCalendarIds") List<Long> teamCalendarIds);
+
+    /**
+     * 오늘 시작하는 팀 일정의 알림 대상 조회 |
+     * 일정 대상자와 회원 토큰을 한 번에 조인하고, (일정 식별자, 토큰 식별자) 기준 keyset으로 나눠서 조회한다.
+     */
+    @Query(value = "SELECT new idorm.idormServer.calendar.dto.TeamCalendarReminder(c.id, c.title.value, f.id, f.value) " +
+            "FROM TeamCalendar c " +
+            "JOIN c.targets target, MemberFCM f, Member m " +
+            "WHERE f.memberId = target " +
+            "AND m.id = target " +
+            "AND m.memberStatus = idorm.idormServer.member.domain.MemberStatus.ACTIVE " +
+            "AND c.isDeleted = false " +
+            "AND c.period.startDate = :today " +
+            "AND (c.id > :lastTeamCalendarId " +
+            "OR (c.id = :lastTeamCalendarId AND f.id > :lastMemberFcmId)) " +
+            "ORDER BY c.id ASC, f.id ASC")
+    List<TeamCalendarReminder> findRemindersStartingOn(@Param("today") LocalDate today,
+                                                       @Param("lastTeamCalendarId") Long lastTeamCalendarId,
+                                                       @Param("lastMemberFcmId") Long lastMemberFcmId,
+                                                       Pageable pageable);
 }
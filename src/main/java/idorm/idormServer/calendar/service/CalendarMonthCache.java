@@ -0,0 +1,101 @@
+package idorm.idormServer.calendar.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import idorm.idormServer.calendar.dto.CalendarMonthView;
+import idorm.idormServer.common.exception.CustomException;
+import idorm.idormServer.common.util.ExpiringCache;
+import idorm.idormServer.common.util.Sha256;
+import idorm.idormServer.common.util.TransactionCallbacks;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+import static idorm.idormServer.common.exception.ExceptionCode.SERVER_ERROR;
+
+/**
+ * 월별 일정 조회 캐시 |
+ * (범위, 연월) 단위로 응답 data와 ETag를 보관한다. 범위는 공식 일정 전체 또는 팀 하나다.
+ * 범위마다 버전을 두고 일정 변경 시 커밋 이후에 올려서, 이전 버전으로 적재된 항목은 다음 조회 때 다시 적재한다.
+ * 다른 서버의 변경은 TTL이 지나면 반영된다.
+ */
+@Component
+public class CalendarMonthCache {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final String OFFICIAL_SCOPE = "official";
+    private static final String TEAM_SCOPE_PREFIX = "team:";
+
+    private final ObjectMapper objectMapper;
+    private final ExpiringCache<MonthKey, CalendarMonthView> cache;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public CalendarMonthCache(ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.cache = new ExpiringCache<>(clock, TTL, MAXIMUM_SIZE);
+    }
+
+    /**
+     * 공식 일정 월별 조회 |
+     * 종료된 일정을 제외하므로 기준일(asOf)도 키에 포함한다.
+     * 500(SERVER_ERROR)
+     */
+    public CalendarMonthView getOfficial(YearMonth yearMonth, LocalDate asOf, Supplier<?> loader) {
+        return get(new MonthKey(OFFICIAL_SCOPE, yearMonth, asOf), loader);
+    }
+
+    /**
+     * 팀일정 월별 조회 |
+     * 500(SERVER_ERROR)
+     */
+    public CalendarMonthView getTeam(Long teamId, YearMonth yearMonth, Supplier<?> loader) {
+        return get(new MonthKey(TEAM_SCOPE_PREFIX + teamId, yearMonth, null), loader);
+    }
+
+    public void invalidateOfficial() {
+        invalidate(OFFICIAL_SCOPE);
+    }
+
+    public void invalidateTeam(Long teamId) {
+        invalidate(TEAM_SCOPE_PREFIX + teamId);
+    }
+
+    private CalendarMonthView get(MonthKey key, Supplier<?> loader) {
+        long version = versionOf(key.scope()).get();
+
+        CalendarMonthView cached = cache.getIfPresent(key);
+        if (cached != null && cached.version() == version)
+            return cached;
+
+        Object body = loader.get();
+        CalendarMonthView view = new CalendarMonthView(version, eTagOf(body), body);
+        cache.put(key, view);
+        return view;
+    }
+
+    private void invalidate(String scope) {
+        TransactionCallbacks.afterCommit(() -> versionOf(scope).incrementAndGet());
+    }
+
+    private AtomicLong versionOf(String scope) {
+        return versions.computeIfAbsent(scope, s -> new AtomicLong());
+    }
+
+    private String eTagOf(Object body) {
+        try {
+            return "\"" + Sha256.hex(objectMapper.writeValueAsString(body)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new CustomException(e, SERVER_ERROR);
+        }
+    }
+
+    private record MonthKey(String scope, YearMonth yearMonth, LocalDate asOf) {
+    }
+}
@@ -8,10 +8,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static idorm.idormServer.common.exception.ExceptionCode.*;
 
@@ -21,6 +24,8 @@ import static idorm.idormServer.common.exception.ExceptionCode.*;
 public class OfficialCalendarService {
 
     private final OfficialCalendarRepository calendarRepository;
+    private final CalendarMonthCache calendarMonthCache;
+    private final Clock clock;
 
     /**
      * DB에 일정 저장 | 크롤링 시 사용 |
@@ -54,6 +59,7 @@ public class OfficialCalendarService {
     public void update(OfficialCalendar officialCalendar, OfficialCalendarUpdateRequest request) {
         try {
             officialCalendar.update(request);
+            calendarMonthCache.invalidateOfficial();
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -67,6 +73,7 @@ public class OfficialCalendarService {
     public void delete(OfficialCalendar calendar) {
         try {
             calendar.delete();
+            calendarMonthCache.invalidateOfficial();
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -87,11 +94,10 @@ public class OfficialCalendarService {
      */
     public List<OfficialCalendar> findManyByAdmin() {
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            LocalDate now = LocalDate.now();
-            LocalDate lastWeek = now.minusDays(7);
-            return calendarRepository.findByMonthByAdmin(now.format(formatter) + "-%",
-                    lastWeek.format(formatter) + "-%");
+            LocalDate now = LocalDate.now(clock);
+            LocalDate from = YearMonth.from(now.minusDays(7)).atDay(1);
+            LocalDate to = YearMonth.from(now).plusMonths(1).atDay(1);
+            return calendarRepository.findAllPostedBetween(from, to);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -104,7 +110,7 @@ public class OfficialCalendarService {
     public List<OfficialCalendar> findManyByYearMonth(YearMonth yearMonth) {
 
         try {
-            return calendarRepository.findByMonthByMember(yearMonth + "-%");
+            return calendarRepository.findAllPublicOverlapping(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -114,16 +120,16 @@ public class OfficialCalendarService {
      * 기숙사 별 오늘의 일정 조회 |
      * 500(SERVER_ERROR)
      */
-    public List<OfficialCalendar> findTodayCalendars(int dormNum) {
+    public List<OfficialCalendar> findTodayCalendars(int dormNum, LocalDate today) {
 
         try {
             switch (dormNum) {
                 case 1:
-                    return calendarRepository.findCalendarsByDorm1AndTodayStartDate();
+                    return calendarRepository.findAllOfDorm1StartingOn(today);
                 case 2:
-                    return calendarRepository.findCalendarsByDorm2AndTodayStartDate();
+                    return calendarRepository.findAllOfDorm2StartingOn(today);
                 default:
-                    return calendarRepository.findCalendarsByDorm3AndTodayStartDate();
+                    return calendarRepository.findAllOfDorm3StartingOn(today);
             }
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
@@ -146,12 +152,17 @@ public class OfficialCalendarService {
     }
 
     /**
-     * 크롤링한 공식 일정 저장 여부 확인 |
+     * 크롤링한 공식 일정 중 이미 저장된 게시글 ID 조회 |
      * 500(SERVER_ERROR)
      */
-    public boolean validateOfficialCalendarExistence(String inuPostId) {
-        if (inuPostId == null)
-            return false;
-        return calendarRepository.existsByInuPostIdAndIsDeletedIsFalse(inuPostId);
+    public Set<String> findSavedInuPostIds(Collection<String> inuPostIds) {
+        if (inuPostIds.isEmpty())
+            return Collections.emptySet();
+
+        try {
+            return calendarRepository.findInuPostIdsIn(inuPostIds);
+        } catch (RuntimeException e) {
+            throw new CustomException(e, SERVER_ERROR);
+        }
     }
 }
@@ -4,20 +4,23 @@ import idorm.idormServer.calendar.domain.Team;
 import idorm.idormServer.calendar.domain.TeamCalendar;
 import idorm.idormServer.calendar.dto.RoomMateCalendarUpdateRequest;
 import idorm.idormServer.calendar.dto.SleepoverCalendarUpdateRequest;
+import idorm.idormServer.calendar.dto.TeamCalendarReminder;
 import idorm.idormServer.calendar.repository.RoomMateTeamCalendarRepository;
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.member.domain.Member;
 import idorm.idormServer.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static idorm.idormServer.common.exception.ExceptionCode.*;
@@ -27,8 +30,12 @@ import static idorm.idormServer.common.exception.ExceptionCode.*;
 @RequiredArgsConstructor
 public class RoomMateTeamCalendarService {
 
+    private static final int REMINDER_BATCH_SIZE = 1000;
+
     private final RoomMateTeamCalendarRepository teamCalendarRepository;
     private final MemberService memberService;
+    private final SleepoverIntervalIndex sleepoverIntervalIndex;
+    private final CalendarMonthCache calendarMonthCache;
 
     /**
      * DB에 팀일정 저장 |
@@ -37,7 +44,9 @@ public class RoomMateTeamCalendarService {
     @Transactional
     public TeamCalendar save(TeamCalendar teamCalendar) {
         try {
-            return teamCalendarRepository.save(teamCalendar);
+            TeamCalendar savedTeamCalendar = teamCalendarRepository.save(teamCalendar);
+            applyChange(savedTeamCalendar);
+            return savedTeamCalendar;
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -53,6 +62,7 @@ public class RoomMateTeamCalendarService {
                        List<Long> targets) {
         try {
             teamCalendar.updateContents(request, targets);
+            applyChange(teamCalendar);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -66,6 +76,7 @@ public class RoomMateTeamCalendarService {
     public void updateDates(TeamCalendar teamCalendar, SleepoverCalendarUpdateRequest request) {
         try {
             teamCalendar.updateDates(request);
+            applyChange(teamCalendar);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -79,6 +90,7 @@ public class RoomMateTeamCalendarService {
     public void delete(TeamCalendar teamCalendar) {
         try {
             teamCalendar.delete();
+            applyChange(teamCalendar);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -92,6 +104,7 @@ public class RoomMateTeamCalendarService {
     public void deleteTarget(TeamCalendar teamCalendar, Long memberId) {
         try {
             teamCalendar.deleteTarget(memberId);
+            applyChange(teamCalendar);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -99,28 +112,21 @@ public class RoomMateTeamCalendarService {
 
     /**
      * 특정 회원을 대상으로 설정된 팀일정 다건 삭제 |
+     * 일정마다 대상자를 적재하지 않고, 대상자 삭제와 대상자가 남지 않은 일정 삭제를 각각 한 번의 쿼리로 처리한다.
      * 500(SERVER_ERROR)
      */
     @Transactional
     public void deleteManyByContainedTarget(Team team, Member member) {
         try {
-            List<TeamCalendar> teamCalendars = new ArrayList<>(team.getTeamCalendars());
-
-            if (teamCalendars.size() < 1) return;
+            List<Long> teamCalendarIds = teamCalendarRepository.findIdsByTeamAndTarget(team.getId(), member.getId());
 
-            for (TeamCalendar teamCalendar : teamCalendars) {
+            if (teamCalendarIds.isEmpty()) return;
 
-                List<Long> targetsId = teamCalendar.getTargets();
+            teamCalendarRepository.deleteTargetIn(teamCalendarIds, member.getId());
+            teamCalendarRepository.deleteAllWithoutTargetsIn(teamCalendarIds);
 
-                if (!targetsId.contains(member.getId())) {
-                    continue;
-                } else if (targetsId.size() == 1){
-                    teamCalendar.deleteTarget(member.getId());
-                    teamCalendar.delete();
-                } else {
-                    teamCalendar.deleteTarget(member.getId());
-                }
-            }
+            sleepoverIntervalIndex.invalidate(team.getId());
+            calendarMonthCache.invalidateTeam(team.getId());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -132,8 +138,8 @@ public class RoomMateTeamCalendarService {
      */
     public List<TeamCalendar> findManyByYearMonth(Team team, YearMonth yearMonth) {
         try {
-            return teamCalendarRepository.findTeamCalendars(team.getId(),
-                    yearMonth + "-%", 0);
+            return teamCalendarRepository.findOverlapping(team.getId(),
+                    yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1), false);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -145,22 +151,43 @@ public class RoomMateTeamCalendarService {
      */
     public List<TeamCalendar> findSleepOverCalendarsByYearMonth(Team team, YearMonth yearMonth) {
         try {
-            return teamCalendarRepository.findTeamCalendars(team.getId(),
-                    yearMonth + "-%", 1);
+            return teamCalendarRepository.findOverlapping(team.getId(),
+                    yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1), true);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
     }
 
     /**
-     * 오늘의 팀 일정 조회 |
+     * 오늘 시작하는 팀 일정 알림 대상 배치 순회 |
+     * 일정, 대상자, 토큰을 한 번에 조인한 프로젝션을 배치 단위로 batchConsumer에 넘긴다.
      * 500(SERVER_ERROR)
      */
-    public List<TeamCalendar> findTeamCalendarsByStartDateIsToday() {
-        try {
-            return teamCalendarRepository.findTeamCalendarsByStartDateIsToday();
-        } catch (RuntimeException e) {
-            throw new CustomException(e, SERVER_ERROR);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachTodayReminderBatch(LocalDate today, Consumer<List<TeamCalendarReminder>> batchConsumer) {
+        PageRequest batch = PageRequest.of(0, REMINDER_BATCH_SIZE);
+        Long lastTeamCalendarId = 0L;
+        Long lastMemberFcmId = 0L;
+
+        while (true) {
+            List<TeamCalendarReminder> reminders;
+            try {
+                reminders = teamCalendarRepository.findRemindersStartingOn(today, lastTeamCalendarId, lastMemberFcmId, batch);
+            } catch (RuntimeException e) {
+                throw new CustomException(e, SERVER_ERROR);
+            }
+
+            if (reminders.isEmpty())
+                return;
+
+            batchConsumer.accept(reminders);
+
+            if (reminders.size() < REMINDER_BATCH_SIZE)
+                return;
+
+            TeamCalendarReminder last = reminders.get(reminders.size() - 1);
+            lastTeamCalendarId = last.teamCalendarId();
+            lastMemberFcmId = last.memberFcmId();
         }
     }
 
@@ -181,13 +208,10 @@ public class RoomMateTeamCalendarService {
      */
     public List<Long> findSleepoverYnByTeam(Team team) {
         try {
-            List<TeamCalendar> todaySleepoverTeamCalendars =
-                    teamCalendarRepository.findTodaySleepoverMembersByTeam(team.getId());
-
-            List<Long> members = new ArrayList<>();
-            todaySleepoverTeamCalendars.forEach(teamCalendar -> members.add(teamCalendar.getTargets().get(0)));
-
-            return members;
+            return sleepoverIntervalIndex.findToday(team.getId())
+                    .stream()
+                    .map(sleepover -> sleepover.targets().get(0))
+                    .collect(Collectors.toList());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -292,17 +316,20 @@ public class RoomMateTeamCalendarService {
                                       LocalDate startDate,
                                       LocalDate endDate) {
 
-        String startDateStr = startDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd"));
-        String endDateStr = endDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd"));
-
-        List<TeamCalendar> teamCalendars = teamCalendarRepository.findTeamCalendarsByDate(team.getId(), startDateStr, endDateStr);
-
-        teamCalendars.removeIf(c -> !c.getTargets().contains(member.getId()));
+        boolean duplicated = teamCalendarRepository.findOverlapping(team.getId(), startDate, endDate.plusDays(1), true)
+                .stream()
+                .filter(c -> c.getTargets().contains(member.getId()))
+                .anyMatch(c -> teamCalendar == null || !c.getId().equals(teamCalendar.getId()));
 
-        if (teamCalendar != null)
-            teamCalendars.removeIf(c -> c.getId().equals(teamCalendar.getId()));
-
-        if (teamCalendars.size() > 0)
+        if (duplicated)
             throw new CustomException(null, DUPLICATE_SLEEPOVER_DATE);
     }
+
+    /**
+     * 팀일정 변경을 외박 일정 인덱스와 월별 조회 캐시에 커밋 이후 반영한다.
+     */
+    private void applyChange(TeamCalendar teamCalendar) {
+        sleepoverIntervalIndex.invalidate(teamCalendar.getTeam().getId());
+        calendarMonthCache.invalidateTeam(teamCalendar.getTeam().getId());
+    }
 }
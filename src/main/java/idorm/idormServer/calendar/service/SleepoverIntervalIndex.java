@@ -0,0 +1,69 @@
+package idorm.idormServer.calendar.service;
+
+import idorm.idormServer.calendar.domain.SleepoverIntervals;
+import idorm.idormServer.calendar.domain.SleepoverIntervals.Sleepover;
+import idorm.idormServer.calendar.repository.RoomMateTeamCalendarRepository;
+import idorm.idormServer.common.util.ExpiringCache;
+import idorm.idormServer.common.util.TransactionCallbacks;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외박 일정 인메모리 구간 인덱스 |
+ * 팀 단위로 오늘 이후에 끝나는 외박 일정 구간 스냅샷을 보관하고, 조회 전용으로만 사용한다.
+ * 팀일정 변경 시 커밋 이후에 해당 팀을 비우고, 다른 서버의 변경은 TTL이 지나면 반영된다.
+ * 외박 일정 중복 검증은 쓰기 경로이므로 인덱스를 쓰지 않고 DB에서 확인한다.
+ */
+@Slf4j
+@Component
+public class SleepoverIntervalIndex {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final RoomMateTeamCalendarRepository teamCalendarRepository;
+    private final Clock clock;
+    private final ExpiringCache<Long, SleepoverIntervals> intervals;
+
+    public SleepoverIntervalIndex(RoomMateTeamCalendarRepository teamCalendarRepository, Clock clock) {
+        this.teamCalendarRepository = teamCalendarRepository;
+        this.clock = clock;
+        this.intervals = new ExpiringCache<>(clock, TTL, MAXIMUM_SIZE);
+    }
+
+    /**
+     * 오늘 외박 중인 일정 조회 |
+     */
+    public List<Sleepover> findToday(Long teamId) {
+        return intervals.get(teamId, this::load).findOn(today());
+    }
+
+    /**
+     * 팀일정 변경 반영 |
+     * 팀의 인덱스를 비워서 다음 조회 때 다시 적재한다.
+     */
+    public void invalidate(Long teamId) {
+        TransactionCallbacks.afterCommit(() -> intervals.invalidate(teamId));
+    }
+
+    private SleepoverIntervals load(Long teamId) {
+        List<Sleepover> sleepovers = teamCalendarRepository.findAllSleepoversOfTeamEndingFrom(teamId, today())
+                .stream()
+                .map(Sleepover::from)
+                .collect(Collectors.toList());
+
+        log.info("[SleepoverIntervalIndex] 외박 일정 적재 | teamId = {}, size = {}", teamId, sleepovers.size());
+        return SleepoverIntervals.of(sleepovers);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock.withZone(SEOUL));
+    }
+}
@@ -0,0 +1,26 @@
+package idorm.idormServer.common.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 서버 중 한 곳에서만 실행할 스케줄 작업 |
+ * 실행 전에 scheduler_lease의 임대를 얻은 서버만 작업을 실행하고, 나머지 서버는 이번 실행을 건너뛴다.
+ * lockAtMostFor는 실행 중인 서버가 갱신하지 못했을 때 다른 서버가 임대를 가져갈 수 있게 되는 시간이고,
+ * lockAtLeastFor는 작업이 빨리 끝나더라도 임대를 유지하는 최소 시간이다. 둘 다 ISO-8601 기간 형식이다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterSingleton {
+
+    /**
+     * 임대 이름 | 비어 있으면 "클래스명.메서드명"을 사용한다.
+     */
+    String name() default "";
+
+    String lockAtMostFor() default "PT10M";
+
+    String lockAtLeastFor() default "PT30S";
+}
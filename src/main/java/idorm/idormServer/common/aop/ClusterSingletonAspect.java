@@ -0,0 +1,47 @@
+package idorm.idormServer.common.aop;
+
+import idorm.idormServer.common.application.SchedulerLeaseManager;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트랜잭션보다 먼저 임대를 확인하도록 가장 바깥에서 실행한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ClusterSingletonAspect {
+
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+    @Around("@annotation(clusterSingleton)")
+    public Object runOnSingleNode(ProceedingJoinPoint pjp, ClusterSingleton clusterSingleton) throws Throwable {
+        String name = clusterSingleton.name().isBlank()
+                ? pjp.getSignature().getDeclaringType().getSimpleName() + "." + pjp.getSignature().getName()
+                : clusterSingleton.name();
+
+        Optional<SchedulerLeaseManager.Lease> lease = schedulerLeaseManager.tryAcquire(name,
+                Duration.parse(clusterSingleton.lockAtMostFor()));
+
+        if (lease.isEmpty()) {
+            log.info("[ClusterSingletonAspect] 다른 서버가 실행 중이므로 건너뜀 | name = {}", name);
+            return null;
+        }
+
+        try {
+            return pjp.proceed();
+        } finally {
+            schedulerLeaseManager.release(lease.get(), Duration.parse(clusterSingleton.lockAtLeastFor()));
+        }
+    }
+}
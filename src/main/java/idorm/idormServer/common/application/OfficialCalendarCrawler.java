@@ -4,74 +4,188 @@ import idorm.idormServer.calendar.domain.OfficialCalendar;
 import idorm.idormServer.calendar.dto.CrawledOfficialCalendarResponse;
 import idorm.idormServer.calendar.service.OfficialCalendarService;
 import idorm.idormServer.common.exception.CustomException;
-import lombok.RequiredArgsConstructor;
+import idorm.idormServer.common.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static idorm.idormServer.common.exception.ExceptionCode.CRAWLING_SERVER_ERROR;
 
+/**
+ * 기숙사 공지 게시판 크롤러 |
+ * 이전 응답의 ETag / Last-Modified 로 조건부 요청을 보내고, 변경이 없으면 본문을 받지 않는다.
+ * 지금까지 확인한 가장 큰 게시글 ID를 기억해서, 고정 공지가 아닌 행 중 처음으로 이미 확인한 게시글을 만나면 파싱을 멈춘다.
+ * 남은 후보의 저장 여부는 한 번의 IN 쿼리로 확인한다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class OfficialCalendarCrawler {
 
+    private static final String POST_URL_PREFIX = "https://bioeng.inu.ac.kr/";
+    private static final String PINNED_NOTICE_CLASS = "notice";
+    private static final DateTimeFormatter POST_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final int MAX_SAVED_POSTS = 10;
+    private static final int CRAWLING_PERIOD_DAYS = 7;
+    private static final long UNKNOWN_POST_ID = -1L;
+
     private final OfficialCalendarService officialCalendarService;
+    private final String url;
+    private final int timeoutMillis;
+
+    private volatile String eTag;
+    private volatile String lastModified;
+    private volatile long lastSeenPostId = UNKNOWN_POST_ID;
+
+    public OfficialCalendarCrawler(OfficialCalendarService officialCalendarService,
+                                   @Value("${crawler.official-calendar.url}") String url,
+                                   @Value("${crawler.official-calendar.timeout}") Duration timeout) {
+        this.officialCalendarService = officialCalendarService;
+        this.url = url;
+        this.timeoutMillis = Math.toIntExact(timeout.toMillis());
+    }
 
     public List<CrawledOfficialCalendarResponse> crawlPosts() {
 
         List<CrawledOfficialCalendarResponse> postList = new ArrayList<>();
 
-        String url = "https://bioeng.inu.ac.kr/dorm/6528/subview.do";
-
-        try{
-            Document doc = Jsoup.connect(url).get();
-            Elements postElements = doc.select("table.board-table tbody tr");
+        try {
+            Connection.Response response = fetch();
 
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
-            LocalDate today = LocalDate.now();
+            if (response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                log.info("[OfficialCalendarCrawler] 게시판 변경 없음 | url = {}", url);
+                return postList;
+            }
 
-            int cnt = 0;
+            List<CrawledPost> candidates = parseNewPosts(response.parse());
 
-            for (Element postElement : postElements) {
+            Set<String> savedPostIds = officialCalendarService.findSavedInuPostIds(candidates.stream()
+                    .map(CrawledPost::postId)
+                    .collect(Collectors.toList()));
 
-                if (cnt >= 10)
-                    break;
+            long seenPostId = UNKNOWN_POST_ID;
+            long firstSkippedPostId = Long.MAX_VALUE;
 
-                LocalDate date = LocalDate.parse(postElement.select("td.td-date").text(), formatter);
+            for (CrawledPost candidate : candidates) {
 
-                if (date.isBefore(today.minusDays(7)))
+                if (savedPostIds.contains(candidate.postId())) {
+                    seenPostId = Math.max(seenPostId, candidate.numericPostId());
                     continue;
+                }
 
-                String postUrl = "https://bioeng.inu.ac.kr/" + postElement.select("td.td-subject a").attr("href");
-                String postId = parseInuPostId(postUrl);
-
-                if (officialCalendarService.validateOfficialCalendarExistence(postId))
+                if (postList.size() >= MAX_SAVED_POSTS) {
+                    if (candidate.numericPostId() != UNKNOWN_POST_ID)
+                        firstSkippedPostId = Math.min(firstSkippedPostId, candidate.numericPostId());
+                    else
+                        firstSkippedPostId = UNKNOWN_POST_ID;
                     continue;
+                }
 
-                String postTitle = postElement.select("td.td-subject a strong").text();
+                OfficialCalendar createdCalendar = officialCalendarService.save(candidate.postId(),
+                        candidate.title(),
+                        candidate.date(),
+                        candidate.postUrl());
 
-                OfficialCalendar createdCalendar = officialCalendarService.save(postId, postTitle, date, postUrl);
-
-                CrawledOfficialCalendarResponse calendarResponse = new CrawledOfficialCalendarResponse(createdCalendar);
-                postList.add(calendarResponse);
-
-                cnt++;
+                postList.add(new CrawledOfficialCalendarResponse(createdCalendar));
+                seenPostId = Math.max(seenPostId, candidate.numericPostId());
             }
 
+            applyAfterCommit(response, seenPostId, firstSkippedPostId);
+
             return postList;
         } catch (IOException e) {
             throw new CustomException(e, CRAWLING_SERVER_ERROR);
         }
     }
 
+    /**
+     * 확인한 게시글 ID와 조건부 요청 값은 저장이 커밋된 이후에 반영한다.
+     * 저장 개수 제한으로 남은 게시글이 있다면, 다음 크롤링에서 다시 파싱하도록 그 게시글 ID 아래까지만 올리고 조건부 요청 값은 갱신하지 않는다.
+     */
+    private void applyAfterCommit(Connection.Response response, long seenPostId, long firstSkippedPostId) {
+        boolean truncated = firstSkippedPostId != Long.MAX_VALUE;
+        long nextPostId = truncated ? Math.min(seenPostId, firstSkippedPostId - 1) : seenPostId;
+        String nextETag = response.header(HttpHeaders.ETAG);
+        String nextLastModified = response.header(HttpHeaders.LAST_MODIFIED);
+
+        TransactionCallbacks.afterCommit(() -> {
+            lastSeenPostId = Math.max(lastSeenPostId, nextPostId);
+            if (!truncated) {
+                eTag = nextETag;
+                lastModified = nextLastModified;
+            }
+        });
+    }
+
+    private Connection.Response fetch() throws IOException {
+        Connection connection = Jsoup.connect(url)
+                .timeout(timeoutMillis)
+                .ignoreHttpErrors(true);
+
+        if (eTag != null)
+            connection.header(HttpHeaders.IF_NONE_MATCH, eTag);
+        if (lastModified != null)
+            connection.header(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+
+        Connection.Response response = connection.execute();
+
+        if (response.statusCode() != HttpStatus.NOT_MODIFIED.value() && response.statusCode() >= 400)
+            throw new HttpStatusException("게시판 조회 실패", response.statusCode(), url);
+
+        return response;
+    }
+
+    /**
+     * 최근 게시글 파싱 |
+     * 고정 공지가 아닌 행 중 이미 확인한 게시글 ID 이하인 행을 만나면 멈춘다.
+     */
+    private List<CrawledPost> parseNewPosts(Document doc) {
+        Elements postElements = doc.select("table.board-table tbody tr");
+        LocalDate crawlingStartDate = LocalDate.now().minusDays(CRAWLING_PERIOD_DAYS);
+
+        List<CrawledPost> candidates = new ArrayList<>();
+
+        for (Element postElement : postElements) {
+
+            String postUrl = POST_URL_PREFIX + postElement.select("td.td-subject a").attr("href");
+            String postId = parseInuPostId(postUrl);
+            long numericPostId = toNumericPostId(postId);
+            boolean pinned = postElement.hasClass(PINNED_NOTICE_CLASS);
+
+            if (numericPostId != UNKNOWN_POST_ID && numericPostId <= lastSeenPostId) {
+                if (pinned)
+                    continue;
+                break;
+            }
+
+            LocalDate date = LocalDate.parse(postElement.select("td.td-date").text(), POST_DATE_FORMATTER);
+
+            if (date.isBefore(crawlingStartDate))
+                continue;
+
+            String postTitle = postElement.select("td.td-subject a strong").text();
+
+            candidates.add(new CrawledPost(postId, numericPostId, postTitle, date, postUrl));
+        }
+        return candidates;
+    }
+
     private String parseInuPostId(String url) {
 
         return url
@@ -79,4 +193,15 @@ public class OfficialCalendarCrawler {
                 .replace("/artclView.do", "")
                 .split("/")[1];
     }
+
+    private long toNumericPostId(String postId) {
+        try {
+            return Long.parseLong(postId);
+        } catch (NumberFormatException e) {
+            return UNKNOWN_POST_ID;
+        }
+    }
+
+    private record CrawledPost(String postId, long numericPostId, String title, LocalDate date, String postUrl) {
+    }
 }
@@ -1,120 +1,115 @@
 package idorm.idormServer.common.application;
 
-import com.google.firebase.messaging.Message;
+import idorm.idormServer.auth.service.RefreshTokenService;
 import idorm.idormServer.calendar.domain.OfficialCalendar;
-import idorm.idormServer.calendar.domain.TeamCalendar;
 import idorm.idormServer.calendar.dto.CrawledOfficialCalendarResponse;
+import idorm.idormServer.calendar.dto.TeamCalendarReminder;
 import idorm.idormServer.calendar.service.OfficialCalendarService;
 import idorm.idormServer.calendar.service.RoomMateTeamCalendarService;
+import idorm.idormServer.common.aop.ClusterSingleton;
 import idorm.idormServer.community.domain.Post;
+import idorm.idormServer.community.service.CommentService;
 import idorm.idormServer.community.service.PostService;
+import idorm.idormServer.community.service.TopPostLeaderboard;
 import idorm.idormServer.fcm.dto.FcmRequest;
 import idorm.idormServer.fcm.domain.NotifyType;
 import idorm.idormServer.fcm.service.MemberFCMService;
+import idorm.idormServer.fcm.service.NotificationOutboxService;
 import idorm.idormServer.matchingInfo.domain.DormCategory;
-import idorm.idormServer.member.domain.Member;
-import idorm.idormServer.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class Scheduler {
 
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
     private final MemberFCMService fcmService;
-    private final MemberService memberService;
+    private final NotificationOutboxService notificationOutboxService;
     private final PostService postService;
+    private final CommentService commentService;
+    private final TopPostLeaderboard topPostLeaderboard;
     private final OfficialCalendarService calendarService;
     private final RoomMateTeamCalendarService teamCalendarService;
     private final OfficialCalendarCrawler officialCalendarCrawler;
+    private final RefreshTokenService refreshTokenService;
+    private final Clock clock;
 
-    @Transactional
+    @ClusterSingleton(lockAtMostFor = "PT10M")
     @Scheduled(cron = "0 49 23 ? * MON,TUE,WED,THU,SUN") // UTC 23:49 ASIA/SEOUL 8:49
     public void alertTopPostsAndCalendarOfDorm1() {
-        List<Member> members = memberService.findAllOfDorm1();
-
-        Post topPost = postService.findTopPost(DormCategory.DORM1);
-        List<OfficialCalendar> todayCalendars = calendarService.findTodayCalendars(1);
-
-        if (topPost == null && todayCalendars == null)
-            return;
-
-        List<FcmRequest> fcmMessages = createFcmMessages("1", topPost, todayCalendars);
-        sendFcmMessage(members, fcmMessages);
+        alertTopPostsAndCalendar(DormCategory.DORM1, 1);
     }
 
-    @Transactional
+    @ClusterSingleton(lockAtMostFor = "PT10M")
     @Scheduled(cron = "0 52 23 ? * MON,TUE,WED,THU,SUN") // UTC 23:52 ASIA/SEOUL 8:52
     public void alertTopPostsAndCalendarOfDorm2() {
-        List<Member> members = memberService.findAllOfDorm2();
-
-        Post topPost = postService.findTopPost(DormCategory.DORM2);
-        List<OfficialCalendar> todayCalendars = calendarService.findTodayCalendars(2);
-
-        if (topPost == null && todayCalendars == null)
-            return;
-
-        List<FcmRequest> fcmMessages = createFcmMessages("2", topPost, todayCalendars);
-        sendFcmMessage(members, fcmMessages);
+        alertTopPostsAndCalendar(DormCategory.DORM2, 2);
     }
 
-    @Transactional
+    @ClusterSingleton(lockAtMostFor = "PT10M")
     @Scheduled(cron = "0 55 23 ? * MON,TUE,WED,THU,SUN") // UTC 23:55 ASIA/SEOUL 8:55
     public void alertTopPostsAndCalendarOfDorm3() {
-        List<Member> members = memberService.findAllOfDorm3();
+        alertTopPostsAndCalendar(DormCategory.DORM3, 3);
+    }
+
+    /**
+     * 기숙사 회원 전체를 한 번에 적재하지 않고, 푸시 토큰 배치 단위로 발송 대기열에 적재한다.
+     * 일정 조회와 알림 이벤트의 날짜는 모두 서울 기준 오늘이다.
+     */
+    private void alertTopPostsAndCalendar(DormCategory dormCategory, int dormNum) {
+        LocalDate today = LocalDate.now(clock.withZone(SEOUL));
 
-        Post topPost = postService.findTopPost(DormCategory.DORM3);
-        List<OfficialCalendar> todayCalendars = calendarService.findTodayCalendars(3);
+        Post topPost = postService.findTopPost(dormCategory);
+        List<OfficialCalendar> todayCalendars = calendarService.findTodayCalendars(dormNum, today);
 
         if (topPost == null && todayCalendars == null)
             return;
 
-        List<FcmRequest> fcmMessages = createFcmMessages("3", topPost, todayCalendars);
-        sendFcmMessage(members, fcmMessages);
+        List<FcmRequest> fcmMessages = createFcmMessages(String.valueOf(dormNum), topPost, todayCalendars);
+
+        fcmService.forEachPushTokenBatch(dormCategory, tokens -> enqueueFcmMessages(today, tokens, fcmMessages));
     }
 
-    @Transactional
+    @ClusterSingleton(lockAtMostFor = "PT10M")
     @Scheduled(cron = "0 0 0 ? * MON,TUE,WED,THU,SUN") // UTC 00:00 ASIA/SEOUL 9:00
     public void alertTeamCalendars() {
 
-        List<TeamCalendar> teamCalendars = teamCalendarService.findTeamCalendarsByStartDateIsToday();
-
-        // createFcmMessages
-        List<FcmRequest> fcmRequestDtos = new ArrayList<>();
-
-        for (TeamCalendar teamCalendar : teamCalendars) {
-
-            List<Long> targets = teamCalendar.getTargets(); // 일정 대상자들
+        LocalDate today = LocalDate.now(clock.withZone(SEOUL));
 
-            if (targets.isEmpty())
-                continue;
+        teamCalendarService.forEachTodayReminderBatch(today, reminders -> {
+            Map<Long, List<TeamCalendarReminder>> remindersByCalendar = reminders.stream()
+                    .collect(Collectors.groupingBy(TeamCalendarReminder::teamCalendarId, LinkedHashMap::new, Collectors.toList()));
 
-            List<Member> teamTargetMembers = memberService.findTeamTargetMembers(targets);
-
-            for (Member member : teamTargetMembers) {
-                FcmRequest topPostFcmMessage = FcmRequest.builder()
-                        .token(member.getFcmToken())
-                        .notification(FcmRequest.Notification.builder()
-                                .notifyType(NotifyType.TEAMCALENDAR)
-                                .contentId(teamCalendar.getId())
-                                .title("오늘의 팀 일정 입니다.")
-                                .content(teamCalendar.getTitle())
-                                .build())
+            remindersByCalendar.forEach((teamCalendarId, calendarReminders) -> {
+                FcmRequest.Notification notification = FcmRequest.Notification.builder()
+                        .notifyType(NotifyType.TEAMCALENDAR)
+                        .contentId(teamCalendarId)
+                        .title("오늘의 팀 일정 입니다.")
+                        .content(calendarReminders.get(0).title())
                         .build();
-                fcmRequestDtos.add(topPostFcmMessage);
-            }
-        }
 
-        // sendFcmMessages
-        List<Message> messages = fcmService.createMessageOfTeamCalendar(fcmRequestDtos);
-        fcmService.sendManyMessages(messages);
+                List<String> tokens = calendarReminders.stream()
+                        .map(TeamCalendarReminder::fcmToken)
+                        .toList();
+                notificationOutboxService.enqueue(eventKey(notification, today), notification, tokens);
+            });
+        });
     }
 
     private List<FcmRequest> createFcmMessages(String dormCategory, Post topPost, List<OfficialCalendar> todayCalendars) {
@@ -146,22 +141,21 @@ public class Scheduler {
         return fcmMessages;
     }
 
-    private void sendFcmMessage(List<Member> members, List<FcmRequest> fcmMessages) {
-        List<Message> messages = new ArrayList<>();
-
-        for (Member member : members) {
-            if (member.getFcmTokenUpdatedAt().isBefore(LocalDate.now().minusMonths(2))) {
-                memberService.deleteFcmToken(member);
-                continue;
-            }
-
-            List<Message> messageList = fcmService.createMessage(member, fcmMessages);
-            messages.addAll(messageList);
+    private void enqueueFcmMessages(LocalDate today, List<String> tokens, List<FcmRequest> fcmMessages) {
+        for (FcmRequest fcmMessage : fcmMessages) {
+            FcmRequest.Notification notification = fcmMessage.getNotification();
+            notificationOutboxService.enqueue(eventKey(notification, today), notification, tokens);
         }
+    }
 
-        fcmService.sendManyMessages(messages);
+    /**
+     * 하루에 한 번 보내는 알림이므로 (알림 종류, 대상, 날짜)를 알림 이벤트로 본다.
+     */
+    private String eventKey(FcmRequest.Notification notification, LocalDate today) {
+        return notification.getNotifyType() + ":" + notification.getContentId() + ":" + today;
     }
 
+    @ClusterSingleton(lockAtMostFor = "PT30M")
     @Transactional
     @Scheduled(cron = "0 0 14 ? * MON,TUE,WED,THU,FRI,SAT,SUN") // UTC 14:00 ASIA/SEOUL 23:00
     public void crawlingOfficialCalendars() {
@@ -170,4 +164,34 @@ public class Scheduler {
 
         // TODO: 관리자 푸시 알림 발송
     }
+
+    @ClusterSingleton(lockAtMostFor = "PT30M")
+    @Scheduled(cron = "0 0 18 ? * MON,TUE,WED,THU,FRI,SAT,SUN") // UTC 18:00 ASIA/SEOUL 3:00
+    public void reconcileCommunityCounts() {
+        int reconciledPosts = postService.reconcileCounts();
+        int reconciledComments = commentService.reconcileReportCounts();
+
+        log.info("[Scheduler] 커뮤니티 카운터 재계산 | posts = {}, comments = {}", reconciledPosts, reconciledComments);
+    }
+
+    @Scheduled(cron = "0 */10 * * * *") // 10분마다 인기 게시글 순위표 재적재, 서버별 인메모리 순위표이므로 모든 서버에서 실행
+    public void reloadTopPostLeaderboard() {
+        topPostLeaderboard.reload();
+    }
+
+    @ClusterSingleton(lockAtMostFor = "PT10M")
+    @Scheduled(cron = "0 30 18 ? * MON,TUE,WED,THU,FRI,SAT,SUN") // UTC 18:30 ASIA/SEOUL 3:30
+    public void deleteSentNotifications() {
+        int deleted = notificationOutboxService.deleteSentNotifications();
+
+        log.info("[Scheduler] 발송 완료 푸시 알림 정리 | deleted = {}", deleted);
+    }
+
+    @ClusterSingleton(lockAtMostFor = "PT10M")
+    @Scheduled(cron = "0 45 18 ? * MON,TUE,WED,THU,FRI,SAT,SUN") // UTC 18:45 ASIA/SEOUL 3:45
+    public void deleteExpiredRefreshTokens() {
+        int deleted = refreshTokenService.deleteExpiredTokens();
+
+        log.info("[Scheduler] 만료 리프레시 토큰 정리 | deleted = {}", deleted);
+    }
 }
@@ -0,0 +1,112 @@
+package idorm.idormServer.common.application;
+
+import idorm.idormServer.common.repository.SchedulerLeaseRepository;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄 작업 임대 관리 |
+ * 임대를 얻으면 작업이 끝날 때까지 lockAtMostFor의 1/3 간격으로 임대를 연장한다.
+ * 서버가 중단되어 연장이 멈추면 lockAtMostFor가 지난 뒤 다른 서버가 다음 실행에서 임대를 가져간다.
+ * 시각은 DATETIME 정밀도에 맞춰 초 단위로 다룬다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final Clock clock;
+    private final String nodeId;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public SchedulerLeaseManager(SchedulerLeaseRepository schedulerLeaseRepository, Clock clock) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.clock = clock;
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 임대 획득 시도 |
+     * 다른 서버가 유효한 임대를 가지고 있으면 빈 값을 반환한다.
+     */
+    public Optional<Lease> tryAcquire(String name, Duration lockAtMostFor) {
+        LocalDateTime now = now();
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        boolean acquired = schedulerLeaseRepository.insertIfAbsent(name, nodeId, now, lockedUntil) > 0
+                || schedulerLeaseRepository.acquireIfExpired(name, nodeId, now, lockedUntil) > 0;
+        if (!acquired)
+            return Optional.empty();
+
+        long heartbeatMillis = Math.max(lockAtMostFor.toMillis() / 3, 1000);
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+                () -> extend(name, now, lockAtMostFor), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        return Optional.of(new Lease(name, now, heartbeat));
+    }
+
+    /**
+     * 임대 반납 |
+     * 획득 시각으로부터 lockAtLeastFor가 지나기 전이라면 그때까지 임대를 유지해서, 시계가 조금 늦은 서버가 같은 실행을 반복하지 않게 한다.
+     */
+    public void release(Lease lease, Duration lockAtLeastFor) {
+        lease.heartbeat().cancel(false);
+
+        LocalDateTime now = now();
+        LocalDateTime keepUntil = lease.lockedAt().plus(lockAtLeastFor);
+        try {
+            schedulerLeaseRepository.release(lease.name(), nodeId, lease.lockedAt(),
+                    keepUntil.isAfter(now) ? keepUntil : now);
+        } catch (RuntimeException e) {
+            log.warn("[SchedulerLeaseManager] 임대 반납 실패 | name = {}", lease.name(), e);
+        }
+    }
+
+    private void extend(String name, LocalDateTime lockedAt, Duration lockAtMostFor) {
+        try {
+            LocalDateTime now = now();
+            if (schedulerLeaseRepository.extend(name, nodeId, lockedAt, now, now.plus(lockAtMostFor)) == 0)
+                log.warn("[SchedulerLeaseManager] 임대 연장 실패, 다른 서버가 임대를 가져갔을 수 있습니다 | name = {}", name);
+        } catch (RuntimeException e) {
+            log.warn("[SchedulerLeaseManager] 임대 연장 중 에러 | name = {}", name, e);
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    public record Lease(String name, LocalDateTime lockedAt, ScheduledFuture<?> heartbeat) {
+    }
+}
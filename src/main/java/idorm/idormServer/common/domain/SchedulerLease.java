@@ -0,0 +1,34 @@
+package idorm.idormServer.common.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업 임대 |
+ * 작업 이름마다 한 행이며, lockedUntil 전까지는 lockedBy 서버만 작업을 실행한다.
+ */
+@Getter
+@Entity
+@Table(name = "scheduler_lease")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false, length = 64)
+    private String lockedBy;
+}
@@ -16,6 +16,7 @@ public enum ExceptionCode {
     FIELD_REQUIRED(BAD_REQUEST, "입력은 필수 입니다."),
     TARGETS_FIELD_REQUIRED(BAD_REQUEST, "팀 일정 대상자 입력은 필수 입니다."),
     DATE_FIELD_REQUIRED(BAD_REQUEST, "일자 입력은 필수 입니다."),
+    CURSOR_FIELD_REQUIRED(BAD_REQUEST, "마지막 게시글 식별자와 작성일시는 함께 입력해야 합니다."),
 
     // 형식
     EMAIL_CHARACTER_INVALID(BAD_REQUEST, "올바른 형식의 이메일이 아닙니다."),
@@ -1,8 +1,10 @@
 package idorm.idormServer.common.interceptor;
 
+import idorm.idormServer.auth.dto.AuthInfo;
 import idorm.idormServer.support.token.AuthorizationExtractor;
 import idorm.idormServer.support.token.TokenManager;
 import java.util.Objects;
+import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +15,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import static idorm.idormServer.support.token.AuthenticationPrincipalArgumentResolver.VERIFIED_AUTH_INFO;
+
 @Component
 @Slf4j
 public class AuthInterceptor implements HandlerInterceptor {
@@ -35,11 +39,14 @@ public class AuthInterceptor implements HandlerInterceptor {
         }
 
         String token = AuthorizationExtractor.extractAccessToken(request);
-        if (isInvalidToken(token)) {
+        Optional<AuthInfo> authInfo = tokenManager.verify(token);
+        if (authInfo.isEmpty()) {
             LOGGER.info("no token" + request.getRequestURI());
             response.setStatus(HttpStatus.UNAUTHORIZED.value());
             return false;
         }
+
+        request.setAttribute(VERIFIED_AUTH_INFO, authInfo.get());
         return true;
     }
 
@@ -47,8 +54,4 @@ public class AuthInterceptor implements HandlerInterceptor {
         String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
         return Objects.isNull(authorizationHeader);
     }
-
-    private boolean isInvalidToken(String token) {
-        return !tokenManager.isValid(token);
-    }
 }
@@ -0,0 +1,62 @@
+package idorm.idormServer.common.repository;
+
+import idorm.idormServer.common.domain.SchedulerLease;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 처음 실행되는 작업의 임대 생성 |
+     * 이미 행이 있으면 아무것도 하지 않고 0을 반환한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO scheduler_lease (name, locked_until, locked_at, locked_by) " +
+            "VALUES (:name, :lockedUntil, :now, :lockedBy)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name,
+                       @Param("lockedBy") String lockedBy,
+                       @Param("now") LocalDateTime now,
+                       @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE SchedulerLease l " +
+            "SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy " +
+            "WHERE l.name = :name " +
+            "AND l.lockedUntil <= :now")
+    int acquireIfExpired(@Param("name") String name,
+                         @Param("lockedBy") String lockedBy,
+                         @Param("now") LocalDateTime now,
+                         @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE SchedulerLease l " +
+            "SET l.lockedUntil = :lockedUntil " +
+            "WHERE l.name = :name " +
+            "AND l.lockedBy = :lockedBy " +
+            "AND l.lockedAt = :lockedAt " +
+            "AND l.lockedUntil > :now")
+    int extend(@Param("name") String name,
+               @Param("lockedBy") String lockedBy,
+               @Param("lockedAt") LocalDateTime lockedAt,
+               @Param("now") LocalDateTime now,
+               @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE SchedulerLease l " +
+            "SET l.lockedUntil = :lockedUntil " +
+            "WHERE l.name = :name " +
+            "AND l.lockedBy = :lockedBy " +
+            "AND l.lockedAt = :lockedAt")
+    int release(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("lockedAt") LocalDateTime lockedAt,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -0,0 +1,87 @@
+package idorm.idormServer.common.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 크기와 유효 시간이 제한된 인메모리 캐시 |
+ * 최근 사용 순서를 유지하는 LinkedHashMap으로 maximumSize를 넘으면 가장 오래 사용하지 않은 값을 버리고,
+ * 저장한 지 ttl이 지난 값은 조회 시점에 버린다.
+ * 값 적재는 잠금 밖에서 하므로 같은 키를 동시에 적재하면 적재가 중복될 수 있다.
+ */
+public class ExpiringCache<K, V> {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries;
+
+    public ExpiringCache(Clock clock, Duration ttl, int maximumSize) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public V getIfPresent(K key) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null)
+                return null;
+            if (entry.expiresAt() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    /**
+     * 캐시에 없으면 loader로 적재한다. loader가 null을 반환하면 저장하지 않는다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null)
+            return cached;
+
+        V loaded = loader.apply(key);
+        if (loaded != null)
+            put(key, loaded);
+        return loaded;
+    }
+
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, clock.millis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,26 @@
+package idorm.idormServer.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class Sha256 {
+
+    public static final int HEX_LENGTH = 64;
+
+    private Sha256() {
+    }
+
+    /**
+     * UTF-8 문자열의 SHA-256 해시를 64자리 소문자 16진수로 반환한다.
+     */
+    public static String hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
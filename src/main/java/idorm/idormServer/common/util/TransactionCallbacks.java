@@ -0,0 +1,28 @@
+package idorm.idormServer.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행해서 롤백된 변경이 인메모리 상태에 남지 않도록 한다.
+     * 트랜잭션 밖이라면 바로 실행한다.
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
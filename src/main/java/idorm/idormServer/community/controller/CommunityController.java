@@ -1,19 +1,21 @@
 package idorm.idormServer.community.controller;
 
 import idorm.idormServer.auth.JwtTokenProvider;
+import idorm.idormServer.auth.service.LoginMemberCache;
 import idorm.idormServer.common.dto.DefaultResponseDto;
 import idorm.idormServer.community.domain.Comment;
 import idorm.idormServer.community.domain.Post;
 import idorm.idormServer.community.domain.PostLike;
 import idorm.idormServer.community.dto.*;
 import idorm.idormServer.community.service.CommentService;
+import idorm.idormServer.community.service.CommentTreeAssembler;
 import idorm.idormServer.community.service.CommunityServiceFacade;
 import idorm.idormServer.community.service.PostLikedMemberService;
 import idorm.idormServer.community.service.PostService;
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.fcm.dto.FcmRequest;
 import idorm.idormServer.fcm.domain.NotifyType;
-import idorm.idormServer.fcm.service.MemberFCMService;
+import idorm.idormServer.fcm.service.NotificationOutboxService;
 import idorm.idormServer.matchingInfo.domain.DormCategory;
 import idorm.idormServer.member.domain.Member;
 import idorm.idormServer.member.service.MemberService;
@@ -28,6 +30,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +41,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -58,8 +63,10 @@ public class CommunityController {
     private final PostService postService;
     private final PostLikedMemberService postLikedMemberService;
     private final CommentService commentService;
+    private final CommentTreeAssembler commentTreeAssembler;
     private final PostPhotoService postPhotoService;
-    private final MemberFCMService fcmService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final LoginMemberCache loginMemberCache;
     private final CommunityServiceFacade communityServiceFacade;
     private final MemberPhotoService memberPhotoService;
 
@@ -81,7 +88,7 @@ public class CommunityController {
             @RequestParam(value = "page") int pageNum
     ) {
         long loginMemberId = Long.parseLong(jwtTokenProvider.getUsername(servletRequest.getHeader(AUTHENTICATION_HEADER_NAME)));
-        memberService.findById(loginMemberId);
+        loginMemberCache.get(loginMemberId);
         
         DormCategory dormCategory = DormCategory.validateType(dormCategoryRequest);
 
@@ -99,6 +106,44 @@ public class CommunityController {
                 );
     }
 
+    @Operation(summary = "기숙사별 홈화면 게시글 목록 커서 조회", description = "- 최신 순으로 10개씩 반환합니다.\n " +
+            "- 첫 조회는 lastPostId, lastCreatedAt 없이 요청합니다.\n " +
+            "- 다음 조회는 직전 응답의 lastPostId, lastCreatedAt을 함께 보냅니다.\n " +
+            "- hasNext가 false라면 더 이상 게시글이 없습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "POST_MANY_FOUND",
+                    content = @Content(schema = @Schema(implementation = PostSliceResponse.class))),
+            @ApiResponse(responseCode = "400",
+                    description = "- DORMCATEGORY_CHARACTER_INVALID\n- CURSOR_FIELD_REQUIRED\n- LASTPOSTID_NEGATIVEORZERO_INVALID"),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED_MEMBER"),
+            @ApiResponse(responseCode = "500", description = "SERVER_ERROR"),
+    })
+    @GetMapping("/posts/{dormitory-category}/cursor")
+    public ResponseEntity<DefaultResponseDto<Object>> findPostsFilteredByCategoryWithCursor(
+            HttpServletRequest servletRequest,
+            @PathVariable(value = "dormitory-category") String dormCategoryRequest,
+            @RequestParam(value = "lastPostId", required = false)
+            @Positive(message = "게시글 식별자는 양수만 가능합니다.") Long lastPostId,
+            @RequestParam(value = "lastCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt
+    ) {
+        long loginMemberId = Long.parseLong(jwtTokenProvider.getUsername(servletRequest.getHeader(AUTHENTICATION_HEADER_NAME)));
+        loginMemberCache.get(loginMemberId);
+
+        DormCategory dormCategory = DormCategory.validateType(dormCategoryRequest);
+
+        Slice<Post> posts = postService.findPostsByDormCategoryBefore(dormCategory, lastCreatedAt, lastPostId);
+
+        return ResponseEntity.status(200)
+                .body(DefaultResponseDto.builder()
+                        .responseCode("POST_MANY_FOUND")
+                        .responseMessage("Post 기숙사 필터링 후 게시글 다건 조회 완료")
+                        .data(new PostSliceResponse(posts))
+                        .build()
+                );
+    }
+
     @Operation(summary = "기숙사별 인기 게시글 다건 조회", description = "- 서버에서 공감 순으로 정렬 후 최신 순으로 정렬합니다.\n" +
             "- 인기 게시글은 10개 입니다.")
     @ApiResponses(value = {
@@ -115,7 +160,7 @@ public class CommunityController {
             @PathVariable("dormitory-category") String dormCategoryRequest
     ) {
         long loginMemberId = Long.parseLong(jwtTokenProvider.getUsername(servletRequest.getHeader(AUTHENTICATION_HEADER_NAME)));
-        memberService.findById(loginMemberId);
+        loginMemberCache.get(loginMemberId);
         
         DormCategory dormCategory = DormCategory.validateType(dormCategoryRequest);
 
@@ -155,59 +200,8 @@ public class CommunityController {
         Member member = memberService.findById(loginMemberId);
         Post foundPost = postService.findById(postId);
 
-        List<Comment> foundComments = commentService.findCommentsByPostId(postId);
-
-        List<Member> anonymousMembers = new ArrayList<>();
-        List<ParentCommentResponse> parentCommentResponses = new ArrayList<>();
-
-        for(Comment comment : foundComments) {
-
-            if(comment.getParentCommentId() == null) { // 대댓글이 아닌 댓글
-
-                String parentAnonymousNickname = null;
-
-                if (!comment.getMember().getIsDeleted() && comment.getIsAnonymous()) {
-                    if (!anonymousMembers.contains(comment.getMember())) {
-                        anonymousMembers.add(comment.getMember());
-                    }
-                    int index = anonymousMembers.indexOf(comment.getMember()) + 1;
-                    parentAnonymousNickname = "익명" + index;
-                }
+        List<ParentCommentResponse> parentCommentResponses = commentTreeAssembler.assemble(postId);
 
-                List<Comment> subComments =
-                        commentService.findSubCommentsByParentCommentId(postId, comment.getId());
-
-                if (subComments.isEmpty()) {
-                    parentCommentResponses.add(new ParentCommentResponse(parentAnonymousNickname,
-                            comment,
-                            memberPhotoService.findByMember(comment.getMember()),
-                            null));
-                    continue;
-                }
-
-                List<CommentResponse> subCommentDtos = new ArrayList<>();
-                for (Comment subComment : subComments) {
-
-                    String subCommentAnonymousNickname = null;
-
-                    if (!subComment.getMember().getIsDeleted() && subComment.getIsAnonymous()) {
-                        if (!anonymousMembers.contains(subComment.getMember())) {
-                            anonymousMembers.add(subComment.getMember());
-                        }
-                        int index = anonymousMembers.indexOf(subComment.getMember()) + 1;
-                        subCommentAnonymousNickname = "익명" + index;
-                    }
-                    
-                    subCommentDtos.add(new CommentResponse(subCommentAnonymousNickname,
-                            subComment,
-                            memberPhotoService.findByMember(subComment.getMember())));
-                }
-                parentCommentResponses.add(new ParentCommentResponse(parentAnonymousNickname,
-                        comment,
-                        memberPhotoService.findByMember(comment.getMember()),
-                        subCommentDtos));
-            }
-        }
         boolean memberLikedPost = postLikedMemberService.isMemberLikedPost(member, foundPost);
         PostResponse response = new PostResponse(foundPost,
                 parentCommentResponses,
@@ -364,7 +358,7 @@ public class CommunityController {
             HttpServletRequest servletRequest
     ) {
         long loginMemberId = Long.parseLong(jwtTokenProvider.getUsername(servletRequest.getHeader(AUTHENTICATION_HEADER_NAME)));
-        memberService.findById(loginMemberId);
+        loginMemberCache.get(loginMemberId);
 
         List<Long> likedPostIds = postLikedMemberService.findAllLikedPostIdByMemberId(loginMemberId);
 
@@ -566,33 +560,29 @@ public class CommunityController {
                 }
             }
 
-            for (String fcmToken : alertSubCommentMembersFcmTokens) {
-                FcmRequest fcmRequestDto = FcmRequest.builder()
-                        .token(fcmToken)
-                        .notification(FcmRequest.Notification.builder()
-                                .notifyType(NotifyType.SUBCOMMENT)
-                                .contentId(postId)
-                                .title("새로운 대댓글이 달렸어요: ")
-                                .content(comment.getContent())
-                                .build())
-                        .build();
-                fcmService.sendMessage(member, fcmRequestDto);
-            }
-            
+            FcmRequest.Notification notification = FcmRequest.Notification.builder()
+                    .notifyType(NotifyType.SUBCOMMENT)
+                    .contentId(postId)
+                    .title("새로운 대댓글이 달렸어요: ")
+                    .content(comment.getContent())
+                    .build();
+            notificationOutboxService.enqueue(NotifyType.SUBCOMMENT + ":" + comment.getId(),
+                    notification,
+                    alertSubCommentMembersFcmTokens);
+
         } else { // 댓글 알림
 
             // 게시글 주인에게 알람
             if (post.getMember().getFcmToken() != null && !post.getMember().equals(member)) {
-                FcmRequest fcmRequestDto = FcmRequest.builder()
-                        .token(post.getMember().getFcmToken())
-                        .notification(FcmRequest.Notification.builder()
-                                .notifyType(NotifyType.COMMENT)
-                                .contentId(postId)
-                                .title("새로운 댓글이 달렸어요: ")
-                                .content(comment.getContent())
-                                .build())
+                FcmRequest.Notification notification = FcmRequest.Notification.builder()
+                        .notifyType(NotifyType.COMMENT)
+                        .contentId(postId)
+                        .title("새로운 댓글이 달렸어요: ")
+                        .content(comment.getContent())
                         .build();
-                fcmService.sendMessage(post.getMember(), fcmRequestDto);
+                notificationOutboxService.enqueue(NotifyType.COMMENT + ":" + comment.getId(),
+                        notification,
+                        List.of(post.getMember().getFcmToken()));
             }
         }
 
@@ -50,6 +50,12 @@ public class Comment extends BaseTimeEntity {
 
     private Boolean isDeleted;
 
+    /**
+     * CommentRepository의 UPDATE 쿼리로만 증감한다.
+     */
+    @Column(nullable = false, updatable = false)
+    private int reportCount;
+
     @OneToMany(mappedBy = "comment")
     private List<Report> reports = new ArrayList<>();
 
@@ -97,6 +103,10 @@ public class Comment extends BaseTimeEntity {
         return Objects.isNull(parent);
     }
 
+    public boolean isAnonymous() {
+        return !nickname.equals(member.getNickname().getValue());
+    }
+
     public String getContent() {
         if (isBlocked()) {
             return BLIND_COMMENT_MESSAGE;
@@ -105,7 +115,7 @@ public class Comment extends BaseTimeEntity {
     }
 
     private boolean isBlocked() {
-        return reports.size() >= BLOCKED_CONDITION;
+        return reportCount >= BLOCKED_CONDITION;
     }
 
     public void delete() {
@@ -8,7 +8,6 @@ import idorm.idormServer.common.util.Validator;
 import idorm.idormServer.matchingInfo.domain.DormCategory;
 import idorm.idormServer.member.domain.Member;
 import idorm.idormServer.report.domain.Report;
-import java.util.Objects;
 import javax.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -22,6 +21,9 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_dorm_category_feed", columnList = "dorm_category, is_deleted, created_at, post_id")
+})
 public class Post extends BaseTimeEntity {
 
     private static final String BLIND_POST_MESSAGE = "블라인드 처리된 게시글입니다.";
@@ -35,7 +37,7 @@ public class Post extends BaseTimeEntity {
 
     @NotNull
     @Enumerated(EnumType.STRING)
-    @Column(columnDefinition = "ENUM('DORM1', 'DORM2', 'DORM3')")
+    @Column(name = "dorm_category", columnDefinition = "ENUM('DORM1', 'DORM2', 'DORM3')")
     private DormCategory dormCategory;
 
     @Embedded
@@ -49,9 +51,22 @@ public class Post extends BaseTimeEntity {
     private String writerNickname;
 
     @NotNull
-    @Column(nullable = false)
+    @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted;
 
+    /**
+     * 카운터 컬럼은 PostRepository의 UPDATE 쿼리로만 증감한다.
+     * 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false 로 둔다.
+     */
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    @Column(name = "post_liked_cnt", nullable = false, updatable = false)
+    private int postLikeCount;
+
+    @Column(nullable = false, updatable = false)
+    private int reportCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -140,22 +155,8 @@ public class Post extends BaseTimeEntity {
         return content.getValue();
     }
 
-    public int getCommentCount() {
-        if (Objects.isNull(comments)) {
-            return 0;
-        }
-        return comments.size();
-    }
-
-    public int getPostLikeCount() {
-        if (Objects.isNull(postLikes)) {
-            return 0;
-        }
-        return postLikes.size();
-    }
-
     private boolean isBlocked() {
-        return reports.size() >= BLOCKED_CONDITION;
+        return reportCount >= BLOCKED_CONDITION;
     }
 
     void addPostLike(PostLike postLike) {
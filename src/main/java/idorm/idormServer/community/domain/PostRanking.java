@@ -0,0 +1,17 @@
+package idorm.idormServer.community.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 순위 계산용 스냅샷 |
+ */
+public record PostRanking(Long postId, Integer likeCount, LocalDateTime createdAt) {
+
+    public static PostRanking from(Post post) {
+        return new PostRanking(post.getId(), post.getPostLikeCount(), post.getCreatedAt());
+    }
+
+    public PostRanking withLikeCount(int likeCount) {
+        return new PostRanking(postId, Math.max(0, likeCount), createdAt);
+    }
+}
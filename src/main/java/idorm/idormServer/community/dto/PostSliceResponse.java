@@ -0,0 +1,43 @@
+package idorm.idormServer.community.dto;
+
+import idorm.idormServer.community.domain.Post;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(title = "게시글 커서 조회 응답")
+public class PostSliceResponse {
+
+    @Schema(description = "게시글 목록")
+    private List<PostSummaryResponse> posts;
+
+    @Schema(description = "다음 게시글 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 조회에 사용할 마지막 게시글 식별자", example = "120")
+    private Long lastPostId;
+
+    @Schema(description = "다음 조회에 사용할 마지막 게시글 작성일시", example = "2023-04-27T17:17:19.911")
+    private LocalDateTime lastCreatedAt;
+
+    public PostSliceResponse(Slice<Post> slice) {
+        this.posts = slice.getContent().stream()
+                .map(PostSummaryResponse::new)
+                .collect(Collectors.toList());
+        this.hasNext = slice.hasNext();
+
+        if (slice.hasContent()) {
+            Post lastPost = slice.getContent().get(slice.getNumberOfElements() - 1);
+            this.lastPostId = lastPost.getId();
+            this.lastCreatedAt = lastPost.getCreatedAt();
+        }
+    }
+}
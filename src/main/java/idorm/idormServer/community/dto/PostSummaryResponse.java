@@ -74,11 +74,8 @@ public class PostSummaryResponse {
             this.isAnonymous = null;
         }
 
-        if (post.getPostLikedMembersIsDeletedIsFalse() != null)
-            this.likesCount = post.getPostLikedMembersCnt();
-
-        if (post.getCommentsIsDeletedIsFalse() != null)
-            this.commentsCount = post.getCommentsCount();
+        this.likesCount = post.getPostLikeCount();
+        this.commentsCount = post.getCommentCount();
 
         if (post.getPostPhotosIsDeletedIsFalse() != null)
             this.imagesCount = post.getPostPhotosCount();
@@ -2,6 +2,11 @@ package idorm.idormServer.community.repository;
 
 import idorm.idormServer.community.domain.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +24,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findAllByPostIdOrderByCreatedAtAsc(Long postId);
 
+    /**
+     * 게시글의 모든 댓글과 작성자를 한 번에 반환
+     */
+    @Query(value = "SELECT c FROM Comment c " +
+            "JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findAllWithMemberByPostId(@Param("postId") Long postId);
+
     Optional<Comment> findByIdAndPostId(Long id, Long postId);
 
     /**
@@ -30,4 +44,24 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * 부모 댓글 식별자와 게시글 식별자로 해당하는 댓글이 있는지 확인
      */
     boolean existsByIdAndPostId(Long commentId, Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE Comment c SET c.reportCount = c.reportCount + 1 WHERE c.id = :commentId")
+    int increaseReportCount(@Param("commentId") Long commentId);
+
+    @Query(value = "SELECT COALESCE(MAX(c.id), 0) FROM Comment c")
+    long findMaxId();
+
+    /**
+     * 댓글 신고 수 재계산 |
+     * (fromId, toId] 범위의 댓글만 갱신해서 한 번에 잠그는 행 수를 제한한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE comment c " +
+            "SET c.report_count = (SELECT COUNT(*) FROM report r WHERE r.reported_comment_id = c.comment_id) " +
+            "WHERE c.comment_id > :fromId " +
+            "AND c.comment_id <= :toId " +
+            "AND c.is_deleted = 0", nativeQuery = true)
+    int reconcileReportCountsBetween(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -1,12 +1,18 @@
 package idorm.idormServer.community.repository;
 
 import idorm.idormServer.community.domain.Post;
+import idorm.idormServer.community.domain.PostRanking;
+import idorm.idormServer.matchingInfo.domain.DormCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -15,23 +21,71 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     Page<Post> findAllByDormCategoryAndIsDeletedIsFalseOrderByCreatedAtDesc(Character dormCategory, Pageable pageable);
 
-    @Query(value = "SELECT *" +
-            "FROM post p " +
-            "WHERE p.dorm_category = :dormCategory " +
-            "AND p.created_at BETWEEN DATE_ADD(DATE_SUB(NOW(), INTERVAL 1 WEEK), INTERVAL 9 HOUR) AND DATE_ADD(NOW(), INTERVAL 9 HOUR) " +
-            "AND p.is_deleted = 0 " +
-            "ORDER BY p.post_liked_cnt DESC, p.created_at DESC " +
-            "LIMIT 10", nativeQuery = true)
-    List<Post> findTopPostsByDormCategory(@Param("dormCategory") Character dormCategory);
-
-    @Query(value = "SELECT *" +
-            "FROM post p " +
-            "WHERE p.dorm_category = :dormCategory " +
-            "AND p.created_at BETWEEN DATE_ADD(DATE_SUB(NOW(), INTERVAL 1 WEEK), INTERVAL 9 HOUR) AND DATE_ADD(NOW(), INTERVAL 9 HOUR) " +
-            "AND p.is_deleted = 0 " +
-            "ORDER BY p.post_liked_cnt DESC, p.created_at DESC " +
-            "LIMIT 1", nativeQuery = true)
-    Post findTopPostByDormCategory(@Param("dormCategory") Character dormCategory);
+    @Query(value = "SELECT new idorm.idormServer.community.domain.PostRanking(p.id, p.postLikeCount, p.createdAt) " +
+            "FROM Post p " +
+            "WHERE p.dormCategory = :dormCategory " +
+            "AND p.isDeleted = false " +
+            "AND p.createdAt >= :createdAt")
+    List<PostRanking> findRankingsByDormCategoryCreatedAfter(@Param("dormCategory") DormCategory dormCategory,
+                                                             @Param("createdAt") LocalDateTime createdAt);
 
     List<Post> findAllByMemberIdAndIsDeletedIsFalseOrderByUpdatedAtDesc(Long memberId);
+
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.commentCount = p.commentCount - 1 " +
+            "WHERE p.id = :postId AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.postLikeCount = p.postLikeCount + 1 WHERE p.id = :postId")
+    int increasePostLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.postLikeCount = p.postLikeCount - 1 " +
+            "WHERE p.id = :postId AND p.postLikeCount > 0")
+    int decreasePostLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.reportCount = p.reportCount + 1 WHERE p.id = :postId")
+    int increaseReportCount(@Param("postId") Long postId);
+
+    @Query(value = "SELECT COALESCE(MAX(p.id), 0) FROM Post p")
+    long findMaxId();
+
+    /**
+     * 게시글 카운터 재계산 |
+     * (fromId, toId] 범위의 게시글만 갱신해서 한 번에 잠그는 행 수를 제한한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE post p " +
+            "SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id AND c.is_deleted = 0), " +
+            "p.post_liked_cnt = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.post_id), " +
+            "p.report_count = (SELECT COUNT(*) FROM report r WHERE r.reported_post_id = p.post_id) " +
+            "WHERE p.post_id > :fromId " +
+            "AND p.post_id <= :toId " +
+            "AND p.is_deleted = 0", nativeQuery = true)
+    int reconcileCountsBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(value = "SELECT p FROM Post p " +
+            "WHERE p.dormCategory = :dormCategory " +
+            "AND p.isDeleted = false " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFirstSliceByDormCategory(@Param("dormCategory") DormCategory dormCategory,
+                                             Pageable pageable);
+
+    @Query(value = "SELECT p FROM Post p " +
+            "WHERE p.dormCategory = :dormCategory " +
+            "AND p.isDeleted = false " +
+            "AND (p.createdAt < :lastCreatedAt " +
+            "OR (p.createdAt = :lastCreatedAt AND p.id < :lastPostId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByDormCategoryBefore(@Param("dormCategory") DormCategory dormCategory,
+                                              @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                              @Param("lastPostId") Long lastPostId,
+                                              Pageable pageable);
 }
@@ -3,10 +3,12 @@ package idorm.idormServer.community.service;
 import idorm.idormServer.community.domain.Comment;
 import idorm.idormServer.community.domain.Post;
 import idorm.idormServer.community.repository.CommentRepository;
+import idorm.idormServer.community.repository.PostRepository;
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.member.domain.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -19,16 +21,22 @@ import static idorm.idormServer.common.exception.ExceptionCode.*;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
     private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
 
     /**
      * DB에 댓글 저장 |
+     * 게시글의 댓글 수도 함께 증가시킨다. |
      * 500(SERVER_ERROR)
      */
     @Transactional
     public Comment save(Comment comment) {
         try {
-            return commentRepository.save(comment);
+            Comment savedComment = commentRepository.save(comment);
+            postRepository.increaseCommentCount(comment.getPost().getId());
+            return savedComment;
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -36,6 +44,7 @@ public class CommentService {
 
     /**
      * 댓글 단건 삭제 |
+     * 게시글의 댓글 수도 함께 감소시킨다. |
      * 500(SERVER_ERROR)
      */
     @Transactional
@@ -43,6 +52,7 @@ public class CommentService {
 
         try {
             comment.delete();
+            postRepository.decreaseCommentCount(comment.getPost().getId());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -156,4 +166,23 @@ public class CommentService {
             throw new CustomException(null, ACCESS_DENIED_COMMENT);
         }
     }
+
+    /**
+     * 댓글 신고 수 재계산 |
+     * 카운터 컬럼과 실제 신고 row 수의 차이를 바로잡는다.
+     * 댓글 식별자 범위 단위로 나눠서 묶음마다 별도 트랜잭션으로 커밋한다. |
+     * 500(SERVER_ERROR)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcileReportCounts() {
+        try {
+            long maxId = commentRepository.findMaxId();
+            int total = 0;
+            for (long fromId = 0; fromId < maxId; fromId += RECONCILE_CHUNK_SIZE)
+                total += commentRepository.reconcileReportCountsBetween(fromId, fromId + RECONCILE_CHUNK_SIZE);
+            return total;
+        } catch (RuntimeException e) {
+            throw new CustomException(e, SERVER_ERROR);
+        }
+    }
 }
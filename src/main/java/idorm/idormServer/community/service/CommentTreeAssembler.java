@@ -0,0 +1,96 @@
+package idorm.idormServer.community.service;
+
+import idorm.idormServer.common.exception.CustomException;
+import idorm.idormServer.community.domain.Comment;
+import idorm.idormServer.community.dto.CommentResponse;
+import idorm.idormServer.community.dto.ParentCommentResponse;
+import idorm.idormServer.community.repository.CommentRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import static idorm.idormServer.common.exception.ExceptionCode.SERVER_ERROR;
+
+/**
+ * 게시글 상세의 댓글 트리 조립 |
+ * 게시글의 댓글과 작성자(프로필 사진 포함)를 한 번의 쿼리로 조회한 뒤,
+ * 부모 / 대댓글 묶음과 "익명N" 번호를 해시 맵으로 조립한다.
+ * 댓글 수와 관계없이 쿼리 수가 일정하다.
+ */
+@Component
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CommentTreeAssembler {
+
+    private static final String ANONYMOUS_NICKNAME_PREFIX = "익명";
+
+    private final CommentRepository commentRepository;
+
+    /**
+     * 게시글 댓글 트리 조회 |
+     * 익명 번호는 부모 댓글, 그 대댓글, 다음 부모 댓글 순으로 처음 등장한 회원부터 1번을 부여한다. |
+     * 500(SERVER_ERROR)
+     */
+    public List<ParentCommentResponse> assemble(Long postId) {
+        List<Comment> comments = null;
+
+        try {
+            comments = commentRepository.findAllWithMemberByPostId(postId);
+        } catch (RuntimeException e) {
+            throw new CustomException(e, SERVER_ERROR);
+        }
+
+        Map<Long, Comment> parentsById = new HashMap<>();
+        Map<Long, List<Comment>> childrenByParentId = new LinkedHashMap<>();
+
+        for (Comment comment : comments) {
+            if (comment.isParent()) {
+                parentsById.put(comment.getId(), comment);
+                childrenByParentId.putIfAbsent(comment.getId(), new ArrayList<>());
+            } else {
+                childrenByParentId.computeIfAbsent(comment.getParent().getId(), id -> new ArrayList<>()).add(comment);
+            }
+        }
+
+        Map<Long, Integer> anonymousNumbers = new HashMap<>();
+        List<ParentCommentResponse> responses = new ArrayList<>();
+
+        for (Map.Entry<Long, List<Comment>> entry : childrenByParentId.entrySet()) {
+            Comment parent = parentsById.get(entry.getKey());
+            if (parent == null)
+                continue;
+
+            String parentNickname = anonymousNickname(parent, anonymousNumbers);
+
+            List<CommentResponse> subComments = null;
+            if (!entry.getValue().isEmpty()) {
+                subComments = new ArrayList<>(entry.getValue().size());
+                for (Comment child : entry.getValue()) {
+                    subComments.add(new CommentResponse(anonymousNickname(child, anonymousNumbers),
+                            child,
+                            child.getMember().getMemberPhoto()));
+                }
+            }
+
+            responses.add(new ParentCommentResponse(parentNickname,
+                    parent,
+                    parent.getMember().getMemberPhoto(),
+                    subComments));
+        }
+        return responses;
+    }
+
+    private String anonymousNickname(Comment comment, Map<Long, Integer> anonymousNumbers) {
+        if (comment.getMember().isDeleted() || !comment.isAnonymous())
+            return null;
+
+        int number = anonymousNumbers.computeIfAbsent(comment.getMember().getId(),
+                memberId -> anonymousNumbers.size() + 1);
+        return ANONYMOUS_NICKNAME_PREFIX + number;
+    }
+}
@@ -3,6 +3,7 @@ package idorm.idormServer.community.service;
 import idorm.idormServer.community.domain.Post;
 import idorm.idormServer.community.domain.PostLike;
 import idorm.idormServer.community.repository.PostLikedMemberRepository;
+import idorm.idormServer.community.repository.PostRepository;
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.member.domain.Member;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,8 @@ import static idorm.idormServer.common.exception.ExceptionCode.SERVER_ERROR;
 public class PostLikedMemberService {
 
     private final PostLikedMemberRepository postLikedMemberRepository;
+    private final PostRepository postRepository;
+    private final TopPostLeaderboard topPostLeaderboard;
 
     /**
      * 게시글 공감 저장 |
@@ -37,7 +40,10 @@ public class PostLikedMemberService {
                     .post(post)
                     .build();
 
-            return postLikedMemberRepository.save(postLikedMember);
+            PostLike savedPostLike = postLikedMemberRepository.save(postLikedMember);
+            postRepository.increasePostLikeCount(post.getId());
+            topPostLeaderboard.increaseLikeCount(post);
+            return savedPostLike;
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -65,7 +71,8 @@ public class PostLikedMemberService {
     @Transactional
     public void decrementLikedCountsOfPost(Post post) {
         try {
-            post.decrementPostLikedCnt();
+            postRepository.decreasePostLikeCount(post.getId());
+            topPostLeaderboard.decreaseLikeCount(post);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
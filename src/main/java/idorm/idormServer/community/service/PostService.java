@@ -9,10 +9,18 @@ import idorm.idormServer.community.domain.PostPhoto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.Optional;
 
 import static idorm.idormServer.common.exception.ExceptionCode.*;
@@ -22,7 +30,12 @@ import static idorm.idormServer.common.exception.ExceptionCode.*;
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int POST_SLICE_SIZE = 10;
+    private static final int TOP_POST_SIZE = 10;
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
     private final PostRepository postRepository;
+    private final TopPostLeaderboard topPostLeaderboard;
 
     /**
      * DB에 게시글 저장 |
@@ -31,7 +44,9 @@ public class PostService {
     @Transactional
     public Post save(Post post) {
         try {
-            return postRepository.save(post);
+            Post savedPost = postRepository.save(post);
+            topPostLeaderboard.add(savedPost);
+            return savedPost;
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -45,6 +60,7 @@ public class PostService {
     public void delete(Post post) {
         try {
             post.delete();
+            topPostLeaderboard.remove(post);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -117,28 +133,62 @@ public class PostService {
     }
 
     /**
-     * 기숙사 카테고리 별 인기 Post 조회 |
+     * 기숙사 카테고리 별 게시글 커서 조회 |
+     * 마지막으로 받은 게시글의 (작성일시, 식별자) 이후를 seek 조건으로 조회하므로 OFFSET 스캔과 count 쿼리가 없다.
+     * 커서가 없으면 첫 페이지를 조회한다. |
+     * 400(CURSOR_FIELD_REQUIRED)
      * 500(SERVER_ERROR)
      */
-    public List<Post> findTopPosts(DormCategory dormCategory) {
+    public Slice<Post> findPostsByDormCategoryBefore(DormCategory dormCategory,
+                                                     LocalDateTime lastCreatedAt,
+                                                     Long lastPostId) {
+        if ((lastCreatedAt == null) != (lastPostId == null))
+            throw new CustomException(null, CURSOR_FIELD_REQUIRED);
+
         try {
-            return postRepository.findTopPostsByDormCategory(dormCategory.getType());
+            PageRequest pageRequest = PageRequest.of(0, POST_SLICE_SIZE);
+
+            if (lastPostId == null)
+                return postRepository.findFirstSliceByDormCategory(dormCategory, pageRequest);
+
+            return postRepository.findSliceByDormCategoryBefore(dormCategory, lastCreatedAt, lastPostId, pageRequest);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
     }
 
     /**
-     * FCM 용 기숙사 카테고리 별 인기 게시글 1개 조회 |
+     * 기숙사 카테고리 별 인기 Post 조회 |
+     * 순위는 인메모리 순위표에서 구하고, 게시글은 식별자로만 조회한다. |
+     * 500(SERVER_ERROR)
      */
-    public Post findTopPost(DormCategory dormCategory) {
+    public List<Post> findTopPosts(DormCategory dormCategory) {
         try {
-            return postRepository.findTopPostByDormCategory(dormCategory.getType());
+            List<Long> topPostIds = topPostLeaderboard.findTopPostIds(dormCategory, TOP_POST_SIZE);
+            if (topPostIds.isEmpty())
+                return new ArrayList<>();
+
+            Map<Long, Post> postsById = postRepository.findAllById(topPostIds).stream()
+                    .filter(post -> !post.getIsDeleted())
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+            return topPostIds.stream()
+                    .map(postsById::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
     }
 
+    /**
+     * FCM 용 기숙사 카테고리 별 인기 게시글 1개 조회 |
+     */
+    public Post findTopPost(DormCategory dormCategory) {
+        List<Post> topPosts = findTopPosts(dormCategory);
+        return topPosts.isEmpty() ? null : topPosts.get(0);
+    }
+
     /**
      * 회원이 작성한 모든 게시글 조회 |
      * 500(SERVER_ERROR)
@@ -198,4 +248,23 @@ public class PostService {
         if (!(content.length() >= 1 && content.length() <= 300))
             throw new CustomException(null,CONTENT_LENGTH_INVALID);
     }
+
+    /**
+     * 게시글 카운터 재계산 |
+     * 댓글 / 공감 / 신고 카운터 컬럼과 실제 row 수의 차이를 바로잡는다.
+     * 게시글 식별자 범위 단위로 나눠서 묶음마다 별도 트랜잭션으로 커밋한다. |
+     * 500(SERVER_ERROR)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcileCounts() {
+        try {
+            long maxId = postRepository.findMaxId();
+            int total = 0;
+            for (long fromId = 0; fromId < maxId; fromId += RECONCILE_CHUNK_SIZE)
+                total += postRepository.reconcileCountsBetween(fromId, fromId + RECONCILE_CHUNK_SIZE);
+            return total;
+        } catch (RuntimeException e) {
+            throw new CustomException(e, SERVER_ERROR);
+        }
+    }
 }
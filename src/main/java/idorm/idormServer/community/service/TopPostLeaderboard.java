@@ -0,0 +1,152 @@
+package idorm.idormServer.community.service;
+
+import idorm.idormServer.common.util.TransactionCallbacks;
+import idorm.idormServer.community.domain.Post;
+import idorm.idormServer.community.domain.PostRanking;
+import idorm.idormServer.community.repository.PostRepository;
+import idorm.idormServer.matchingInfo.domain.DormCategory;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기숙사별 인기 게시글 순위표 |
+ * 최근 1주일 게시글을 공감 수, 작성일시 순으로 정렬해서 보관한다.
+ * 게시글 작성 / 삭제, 공감 / 공감 취소 시 커밋 이후에 증분 반영하고, 주기적으로 DB에서 다시 적재해서 차이를 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopPostLeaderboard {
+
+    private static final int WINDOW_DAYS = 7;
+
+    private final PostRepository postRepository;
+    private final Clock clock;
+
+    private final Map<DormCategory, Board> boards = new ConcurrentHashMap<>();
+
+    /**
+     * 인기 게시글 식별자 조회 |
+     * 순위 순서대로 최대 size 개를 반환한다.
+     */
+    public List<Long> findTopPostIds(DormCategory dormCategory, int size) {
+        return boards.computeIfAbsent(dormCategory, this::load).top(size, windowStart());
+    }
+
+    public void add(Post post) {
+        PostRanking ranking = PostRanking.from(post);
+        TransactionCallbacks.afterCommit(() -> findLoadedBoard(post.getDormCategory()).put(ranking));
+    }
+
+    public void remove(Post post) {
+        Long postId = post.getId();
+        TransactionCallbacks.afterCommit(() -> findLoadedBoard(post.getDormCategory()).remove(postId));
+    }
+
+    public void increaseLikeCount(Post post) {
+        Long postId = post.getId();
+        TransactionCallbacks.afterCommit(() -> findLoadedBoard(post.getDormCategory()).addLikeCount(postId, 1));
+    }
+
+    public void decreaseLikeCount(Post post) {
+        Long postId = post.getId();
+        TransactionCallbacks.afterCommit(() -> findLoadedBoard(post.getDormCategory()).addLikeCount(postId, -1));
+    }
+
+    /**
+     * 순위표 재적재 |
+     * 적재된 기숙사의 순위표를 DB 기준으로 교체한다.
+     */
+    public void reload() {
+        for (DormCategory dormCategory : boards.keySet()) {
+            boards.put(dormCategory, load(dormCategory));
+        }
+    }
+
+    /**
+     * 적재되지 않은 순위표는 처음 조회될 때 DB에서 적재하므로 증분 반영을 건너뛴다.
+     */
+    private Board findLoadedBoard(DormCategory dormCategory) {
+        return boards.getOrDefault(dormCategory, Board.DETACHED);
+    }
+
+    private Board load(DormCategory dormCategory) {
+        List<PostRanking> rankings = postRepository.findRankingsByDormCategoryCreatedAfter(dormCategory, windowStart());
+
+        Board board = new Board();
+        rankings.forEach(board::put);
+
+        log.info("[TopPostLeaderboard] 인기 게시글 순위표 적재 | dormCategory = {}, size = {}", dormCategory, rankings.size());
+        return board;
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now(clock).minusDays(WINDOW_DAYS);
+    }
+
+    private static class Board {
+
+        private static final Board DETACHED = new Board();
+
+        private static final Comparator<PostRanking> RANKING_ORDER =
+                Comparator.comparing(PostRanking::likeCount, Comparator.reverseOrder())
+                        .thenComparing(PostRanking::createdAt, Comparator.reverseOrder())
+                        .thenComparing(PostRanking::postId, Comparator.reverseOrder());
+
+        private final Map<Long, PostRanking> rankingsByPostId = new HashMap<>();
+        private final TreeSet<PostRanking> rankings = new TreeSet<>(RANKING_ORDER);
+
+        synchronized void put(PostRanking ranking) {
+            if (this == DETACHED)
+                return;
+
+            PostRanking previous = rankingsByPostId.put(ranking.postId(), ranking);
+            if (previous != null)
+                rankings.remove(previous);
+            rankings.add(ranking);
+        }
+
+        synchronized void remove(Long postId) {
+            PostRanking previous = rankingsByPostId.remove(postId);
+            if (previous != null)
+                rankings.remove(previous);
+        }
+
+        synchronized void addLikeCount(Long postId, int delta) {
+            PostRanking previous = rankingsByPostId.get(postId);
+            if (previous != null)
+                put(previous.withLikeCount(previous.likeCount() + delta));
+        }
+
+        /**
+         * 순위 순으로 순회하면서 기간이 지난 게시글은 순위표에서 제거한다.
+         */
+        synchronized List<Long> top(int size, LocalDateTime windowStart) {
+            List<Long> topPostIds = new ArrayList<>(size);
+            Iterator<PostRanking> iterator = rankings.iterator();
+
+            while (iterator.hasNext() && topPostIds.size() < size) {
+                PostRanking ranking = iterator.next();
+
+                if (ranking.createdAt().isBefore(windowStart)) {
+                    iterator.remove();
+                    rankingsByPostId.remove(ranking.postId());
+                    continue;
+                }
+                topPostIds.add(ranking.postId());
+            }
+            return topPostIds;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package idorm.idormServer.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 작업 종류별 비동기 executor |
+ * 이름 없이 @Async만 붙인 작업은 taskExecutor 빈을 사용하고, 메일 / 푸시 / 사진 작업은 각자의 executor에서 실행한다.
+ * 모든 executor는 크기가 제한되어 있고, 지표는 actuator의 Prometheus 엔드포인트로 노출된다.
+ * 가상 스레드 모드에서는 스레드만 가상 스레드로 바꾸고 크기 제한은 그대로 둔다.
+ */
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
+public class AsyncConfig {
+
+    public static final String DEFAULT_EXECUTOR = "taskExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String PUSH_EXECUTOR = "pushExecutor";
+    public static final String PHOTO_EXECUTOR = "photoExecutor";
+
+    private final AsyncExecutorProperties properties;
+    private final List<ExecutorMetrics> executorMetrics = new CopyOnWriteArrayList<>();
+
+    @Value("${virtual-threads.enabled}")
+    private boolean virtualThreads;
+
+    @Bean(name = DEFAULT_EXECUTOR)
+    public ThreadPoolTaskExecutor taskExecutor() {
+        return createExecutor(DEFAULT_EXECUTOR, "async-", properties.get("default"));
+    }
+
+    @Bean(name = MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        return createExecutor(MAIL_EXECUTOR, "mail-", properties.get("mail"));
+    }
+
+    @Bean(name = PUSH_EXECUTOR)
+    public ThreadPoolTaskExecutor pushExecutor() {
+        return createExecutor(PUSH_EXECUTOR, "push-", properties.get("push"));
+    }
+
+    @Bean(name = PHOTO_EXECUTOR)
+    public ThreadPoolTaskExecutor photoExecutor() {
+        return createExecutor(PHOTO_EXECUTOR, "photo-", properties.get("photo"));
+    }
+
+    /**
+     * executor 지표 등록 |
+     * 인자로 executor 빈들을 받아서 모든 executor가 만들어진 뒤에 등록되도록 한다.
+     */
+    @Bean
+    public MeterBinder asyncExecutorMetrics(Map<String, ThreadPoolTaskExecutor> executors) {
+        return registry -> executorMetrics.forEach(metrics -> metrics.bindTo(registry));
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String name, String threadNamePrefix, AsyncExecutorProperties.Pool pool) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.coreSize());
+        executor.setMaxPoolSize(pool.maxSize());
+        executor.setQueueCapacity(pool.queueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (VirtualThreads.isEnabled(virtualThreads))
+            executor.setThreadFactory(VirtualThreads.threadFactory(threadNamePrefix));
+        executor.setRejectedExecutionHandler(pool.rejectionPolicy().toHandler());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+
+        ExecutorMetrics metrics = new ExecutorMetrics(name, executor);
+        executor.setTaskDecorator(metrics);
+        executorMetrics.add(metrics);
+
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package idorm.idormServer.config;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * 작업 종류별 비동기 executor 설정 |
+ * async.executors.{default, mail, push, photo} 아래에 스레드 수, 큐 크기, 거절 정책을 둔다.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "async")
+public record AsyncExecutorProperties(Map<String, Pool> executors) {
+
+    public Pool get(String workload) {
+        Pool pool = executors == null ? null : executors.get(workload);
+        if (pool == null)
+            throw new IllegalStateException("async.executors." + workload + " 설정이 없습니다.");
+        return pool;
+    }
+
+    public record Pool(int coreSize, int maxSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+    }
+
+    public enum RejectionPolicy {
+        CALLER_RUNS,
+        ABORT,
+        DISCARD_OLDEST;
+
+        RejectedExecutionHandler toHandler() {
+            return switch (this) {
+                case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+                case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+                case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            };
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package idorm.idormServer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * executor 하나의 지표 |
+ * 활성 스레드, 큐 대기 수 등은 ExecutorServiceMetrics의 gauge(executor.active, executor.queued ...)로,
+ * 작업이 큐에서 기다린 시간과 실행 시간은 TaskDecorator로 감싸서 executor.task.wait / executor.task.execution 타이머로 기록한다.
+ */
+class ExecutorMetrics implements TaskDecorator, MeterBinder {
+
+    private final String name;
+    private final ThreadPoolTaskExecutor executor;
+
+    private volatile Timer waitTimer;
+    private volatile Timer executionTimer;
+
+    ExecutorMetrics(String name, ThreadPoolTaskExecutor executor) {
+        this.name = name;
+        this.executor = executor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("name", name);
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(registry);
+        this.waitTimer = Timer.builder("executor.task.wait")
+                .description("작업이 큐에서 실행을 기다린 시간")
+                .tags(tags)
+                .register(registry);
+        this.executionTimer = Timer.builder("executor.task.execution")
+                .description("작업 실행 시간")
+                .tags(tags)
+                .register(registry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long submittedAt = System.nanoTime();
+
+        return () -> {
+            long startedAt = System.nanoTime();
+            try {
+                runnable.run();
+            } finally {
+                record(waitTimer, startedAt - submittedAt);
+                record(executionTimer, System.nanoTime() - startedAt);
+            }
+        };
+    }
+
+    private void record(Timer timer, long nanos) {
+        if (timer != null)
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
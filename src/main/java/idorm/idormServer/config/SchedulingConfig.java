@@ -1,9 +1,26 @@
 package idorm.idormServer.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
+
+    private static final String THREAD_NAME_PREFIX = "scheduling-";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size}") int poolSize,
+                                                 @Value("${virtual-threads.enabled}") boolean virtualThreads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        if (VirtualThreads.isEnabled(virtualThreads))
+            scheduler.setThreadFactory(VirtualThreads.threadFactory(THREAD_NAME_PREFIX));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return scheduler;
+    }
 }
@@ -0,0 +1,36 @@
+package idorm.idormServer.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 |
+ * virtual-threads.enabled가 true이고 JDK 21 이상에서 실행될 때만 Tomcat 요청 처리를 가상 스레드에서 한다.
+ * 이때 동시 요청 수는 스레드 풀이 아니라 Hikari 커넥션 풀 크기가 제한한다.
+ * @Async / @Scheduled executor는 AsyncConfig, SchedulingConfig에서 같은 설정을 따른다.
+ */
+@Slf4j
+@Configuration
+public class VirtualThreadConfig {
+
+    private final boolean enabled;
+
+    public VirtualThreadConfig(@Value("${virtual-threads.enabled}") boolean requested) {
+        if (requested && !VirtualThreads.isSupported()) {
+            log.warn("[VirtualThreadConfig] JDK {} 에서는 가상 스레드를 사용할 수 없어 플랫폼 스레드로 실행합니다.",
+                    Runtime.version().feature());
+        }
+        this.enabled = VirtualThreads.isEnabled(requested);
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            if (enabled)
+                protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("tomcat-"));
+        };
+    }
+}
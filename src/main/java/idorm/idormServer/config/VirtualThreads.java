@@ -0,0 +1,45 @@
+package idorm.idormServer.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 생성 |
+ * 컴파일 대상은 Java 17이므로 JDK 21의 가상 스레드 API는 리플렉션으로 호출한다.
+ */
+final class VirtualThreads {
+
+    private static final int MIN_FEATURE_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return Runtime.version().feature() >= MIN_FEATURE_VERSION;
+    }
+
+    static boolean isEnabled(boolean requested) {
+        return requested && isSupported();
+    }
+
+    static ThreadFactory threadFactory(String namePrefix) {
+        try {
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) ofVirtual.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드를 사용할 수 없는 JDK 입니다.", e);
+        }
+    }
+
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory(namePrefix));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드를 사용할 수 없는 JDK 입니다.", e);
+        }
+    }
+}
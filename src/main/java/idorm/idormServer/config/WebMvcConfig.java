@@ -1,5 +1,6 @@
 package idorm.idormServer.config;
 
+import idorm.idormServer.auth.service.LoginMemberCache;
 import idorm.idormServer.common.interceptor.AuthInterceptor;
 import idorm.idormServer.support.token.AuthenticationPrincipalArgumentResolver;
 import idorm.idormServer.support.token.TokenManager;
@@ -15,10 +16,12 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final AuthInterceptor authInterceptor;
     private final TokenManager tokenManager;
+    private final LoginMemberCache loginMemberCache;
 
-    public WebMvcConfig(AuthInterceptor authInterceptor, TokenManager tokenManager) {
+    public WebMvcConfig(AuthInterceptor authInterceptor, TokenManager tokenManager, LoginMemberCache loginMemberCache) {
         this.authInterceptor = authInterceptor;
         this.tokenManager = tokenManager;
+        this.loginMemberCache = loginMemberCache;
     }
 
     @Override
@@ -39,6 +42,6 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     @Bean
     public AuthenticationPrincipalArgumentResolver authenticationPrincipalArgumentResolver() {
-        return new AuthenticationPrincipalArgumentResolver(tokenManager);
+        return new AuthenticationPrincipalArgumentResolver(tokenManager, loginMemberCache);
     }
 }
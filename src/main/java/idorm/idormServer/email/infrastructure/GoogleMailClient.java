@@ -9,6 +9,8 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import static idorm.idormServer.config.AsyncConfig.MAIL_EXECUTOR;
+
 @Component
 public class GoogleMailClient implements MailClient {
 
@@ -21,7 +23,7 @@ public class GoogleMailClient implements MailClient {
     }
 
     @Override
-    @Async
+    @Async(MAIL_EXECUTOR)
     public void send(Consumer<MailMessage> mailMessageConsumer) {
         SimpleMailMessage mailMessage = new SimpleMailMessage();
         mailMessageConsumer.accept(mailMessage);
@@ -0,0 +1,121 @@
+package idorm.idormServer.fcm.domain;
+
+import idorm.idormServer.common.domain.BaseTimeEntity;
+import idorm.idormServer.fcm.dto.FcmRequest;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 푸시 알림 발송 대기열 |
+ * 토큰 하나당 한 행이며, idempotencyKey는 (알림 이벤트, 토큰) 단위로 유일하다.
+ * 발송에 실패하면 nextAttemptAt까지 미뤄서 재시도하고, 재시도 한도를 넘기거나 토큰이 유효하지 않으면 DEAD로 남긴다.
+ */
+@Getter
+@Entity
+@Table(name = "notification_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_outbox_idempotency_key",
+                columnNames = "idempotency_key"),
+        indexes = {
+                @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_notification_outbox_claim", columnList = "claim_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTimeEntity {
+
+    public static final String INVALID_TOKEN = "INVALID_TOKEN";
+    public static final String SEND_FAILED = "SEND_FAILED";
+    public static final String MAX_ATTEMPTS_EXCEEDED = "MAX_ATTEMPTS_EXCEEDED";
+
+    @Id
+    @Column(name = "notification_outbox_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 128)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notify_type", nullable = false, length = 20)
+    private NotifyType notifyType;
+
+    @Column(name = "content_id")
+    private Long contentId;
+
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "fcm_token", nullable = false)
+    private String token;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_id", length = 36)
+    private String claimId;
+
+    @Column(name = "last_error", length = 30)
+    private String lastError;
+
+    public NotificationOutbox(String idempotencyKey,
+                              FcmRequest.Notification notification,
+                              String token,
+                              LocalDateTime nextAttemptAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.notifyType = notification.getNotifyType();
+        this.contentId = notification.getContentId();
+        this.title = notification.getTitle();
+        this.content = notification.getContent();
+        this.token = token;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public FcmRequest.Notification toNotification() {
+        return FcmRequest.Notification.builder()
+                .notifyType(notifyType)
+                .contentId(contentId)
+                .title(title)
+                .content(content)
+                .build();
+    }
+
+    /**
+     * 발송 실패 반영 |
+     * 재시도 한도를 넘기면 DEAD로 전환하고, 아니라면 nextAttemptAt에 다시 발송하도록 PENDING으로 되돌린다.
+     */
+    public void failAttempt(int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.claimId = null;
+
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+            this.lastError = MAX_ATTEMPTS_EXCEEDED;
+            return;
+        }
+        this.status = OutboxStatus.PENDING;
+        this.lastError = SEND_FAILED;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
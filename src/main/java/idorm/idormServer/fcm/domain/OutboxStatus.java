@@ -0,0 +1,8 @@
+package idorm.idormServer.fcm.domain;
+
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
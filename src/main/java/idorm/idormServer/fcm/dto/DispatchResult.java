@@ -0,0 +1,41 @@
+package idorm.idormServer.fcm.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 푸시 알림 발송 결과 |
+ * invalidTokens는 FCM이 더 이상 유효하지 않다고 응답한 토큰이고, failedTokens는 다시 시도할 수 있는 실패 토큰이다.
+ */
+public record DispatchResult(List<String> sentTokens, List<String> invalidTokens, List<String> failedTokens) {
+
+    public static DispatchResult empty() {
+        return new DispatchResult(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    public static DispatchResult failed(List<String> tokens) {
+        return new DispatchResult(Collections.emptyList(), Collections.emptyList(), List.copyOf(tokens));
+    }
+
+    public int successCount() {
+        return sentTokens.size();
+    }
+
+    public int failureCount() {
+        return invalidTokens.size() + failedTokens.size();
+    }
+
+    public DispatchResult merge(DispatchResult other) {
+        return new DispatchResult(concat(sentTokens, other.sentTokens),
+                concat(invalidTokens, other.invalidTokens),
+                concat(failedTokens, other.failedTokens));
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        return merged;
+    }
+}
@@ -14,6 +14,7 @@ public class FcmRequest {
     private Notification notification;
     @Getter
     @Builder
+    @EqualsAndHashCode
     @AllArgsConstructor
     public static class Notification {
         private NotifyType notifyType;
@@ -0,0 +1,9 @@
+package idorm.idormServer.fcm.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 대상 토큰 조회용 프로젝션 |
+ */
+public record PushTarget(Long memberFcmId, Long memberId, String fcmToken, LocalDateTime updatedAt) {
+}
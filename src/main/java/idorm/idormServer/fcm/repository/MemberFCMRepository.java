@@ -1,9 +1,43 @@
 package idorm.idormServer.fcm.repository;
 
 import idorm.idormServer.fcm.domain.MemberFCM;
+import idorm.idormServer.fcm.dto.PushTarget;
+import idorm.idormServer.matchingInfo.domain.DormCategory;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MemberFCMRepository extends JpaRepository<MemberFCM, Long> {
 
+    /**
+     * 기숙사별 푸시 대상 토큰 조회 |
+     * 한 회원에게 매칭 정보 행이 여러 개여도 토큰이 한 번만 나오도록 DISTINCT로 조회한다.
+     */
+    @Query(value = "SELECT DISTINCT new idorm.idormServer.fcm.dto.PushTarget(f.id, f.memberId, f.value, f.updatedAt) " +
+            "FROM MemberFCM f, MatchingInfo m " +
+            "JOIN m.member mem " +
+            "WHERE mem.id = f.memberId " +
+            "AND m.dormInfo.dormCategory = :dormCategory " +
+            "AND mem.memberStatus = idorm.idormServer.member.domain.MemberStatus.ACTIVE " +
+            "AND mem.roleType = idorm.idormServer.member.domain.RoleType.USER " +
+            "AND f.id > :lastMemberFcmId " +
+            "ORDER BY f.id ASC")
+    List<PushTarget> findPushTargetsAfter(@Param("dormCategory") DormCategory dormCategory,
+                                          @Param("lastMemberFcmId") Long lastMemberFcmId,
+                                          Pageable pageable);
 
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM MemberFCM f WHERE f.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM MemberFCM m WHERE m.value IN :tokens")
+    int deleteAllByValueIn(@Param("tokens") Collection<String> tokens);
 }
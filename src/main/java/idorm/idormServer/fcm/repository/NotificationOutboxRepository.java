@@ -0,0 +1,75 @@
+package idorm.idormServer.fcm.repository;
+
+import idorm.idormServer.fcm.domain.NotificationOutbox;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long>,
+        NotificationOutboxRepositoryCustom {
+
+    /**
+     * 발송 대상 조회 |
+     * SENDING 상태라도 선점 기한(nextAttemptAt)이 지났다면 선점한 워커가 중단된 것으로 보고 다시 대상에 포함한다.
+     */
+    @Query(value = "SELECT o.id " +
+            "FROM NotificationOutbox o " +
+            "WHERE o.status IN (idorm.idormServer.fcm.domain.OutboxStatus.PENDING, " +
+            "idorm.idormServer.fcm.domain.OutboxStatus.SENDING) " +
+            "AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.nextAttemptAt ASC")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발송 대상 선점 |
+     * 조건부 UPDATE로 선점하므로 여러 워커가 같은 행을 조회하더라도 claimId는 하나만 기록된다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE NotificationOutbox o " +
+            "SET o.status = idorm.idormServer.fcm.domain.OutboxStatus.SENDING, " +
+            "o.claimId = :claimId, " +
+            "o.nextAttemptAt = :leaseUntil, " +
+            "o.updatedAt = :now " +
+            "WHERE o.id IN :ids " +
+            "AND o.status IN (idorm.idormServer.fcm.domain.OutboxStatus.PENDING, " +
+            "idorm.idormServer.fcm.domain.OutboxStatus.SENDING) " +
+            "AND o.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("claimId") String claimId,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<NotificationOutbox> findAllByClaimId(String claimId);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE NotificationOutbox o " +
+            "SET o.status = idorm.idormServer.fcm.domain.OutboxStatus.SENT, " +
+            "o.attempts = o.attempts + 1, " +
+            "o.claimId = NULL, " +
+            "o.updatedAt = :now " +
+            "WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE NotificationOutbox o " +
+            "SET o.status = idorm.idormServer.fcm.domain.OutboxStatus.DEAD, " +
+            "o.attempts = o.attempts + 1, " +
+            "o.claimId = NULL, " +
+            "o.lastError = :lastError, " +
+            "o.updatedAt = :now " +
+            "WHERE o.id IN :ids")
+    int markDead(@Param("ids") Collection<Long> ids,
+                 @Param("lastError") String lastError,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM NotificationOutbox o " +
+            "WHERE o.status = idorm.idormServer.fcm.domain.OutboxStatus.SENT " +
+            "AND o.updatedAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
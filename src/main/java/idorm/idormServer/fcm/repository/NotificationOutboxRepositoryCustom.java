@@ -0,0 +1,15 @@
+package idorm.idormServer.fcm.repository;
+
+import idorm.idormServer.fcm.domain.NotificationOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepositoryCustom {
+
+    /**
+     * 푸시 알림 일괄 적재 |
+     * 여러 행을 한 번의 INSERT IGNORE로 넣으며, idempotencyKey가 이미 있는 행은 건너뛴다.
+     * 실제로 적재된 행 수를 반환한다.
+     */
+    int insertAllIgnoringDuplicates(List<NotificationOutbox> outboxes, LocalDateTime now);
+}
@@ -0,0 +1,49 @@
+package idorm.idormServer.fcm.repository;
+
+import idorm.idormServer.fcm.domain.NotificationOutbox;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryImpl implements NotificationOutboxRepositoryCustom {
+
+    private static final String INSERT_IGNORE = "INSERT IGNORE INTO notification_outbox " +
+            "(idempotency_key, notify_type, content_id, title, content, fcm_token, " +
+            "status, attempts, next_attempt_at, created_at, updated_at) " +
+            "VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 11;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAllIgnoringDuplicates(List<NotificationOutbox> outboxes, LocalDateTime now) {
+
+        if (outboxes.isEmpty())
+            return 0;
+
+        String sql = INSERT_IGNORE + String.join(", ", Collections.nCopies(outboxes.size(), ROW_PLACEHOLDER));
+        Timestamp createdAt = Timestamp.valueOf(now);
+
+        List<Object> args = new ArrayList<>(outboxes.size() * COLUMN_COUNT);
+        for (NotificationOutbox outbox : outboxes) {
+            args.add(outbox.getIdempotencyKey());
+            args.add(outbox.getNotifyType().name());
+            args.add(outbox.getContentId());
+            args.add(outbox.getTitle());
+            args.add(outbox.getContent());
+            args.add(outbox.getToken());
+            args.add(outbox.getStatus().name());
+            args.add(outbox.getAttempts());
+            args.add(Timestamp.valueOf(outbox.getNextAttemptAt()));
+            args.add(createdAt);
+            args.add(createdAt);
+        }
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
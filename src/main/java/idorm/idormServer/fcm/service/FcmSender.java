@@ -0,0 +1,16 @@
+package idorm.idormServer.fcm.service;
+
+import idorm.idormServer.fcm.dto.DispatchResult;
+import java.util.List;
+
+/**
+ * FCM 발송 |
+ * 한 번의 호출은 multicast 한도(500개) 이하의 토큰만 받고, 메시지는 NotificationTemplate에 토큰만 붙여서 만든다.
+ * 묶음 전체가 실패하더라도 예외를 던지지 않고 모든 토큰을 failedTokens로 돌려준다.
+ */
+public interface FcmSender {
+
+    int MULTICAST_TOKEN_LIMIT = 500;
+
+    DispatchResult send(NotificationTemplate template, List<String> tokens);
+}
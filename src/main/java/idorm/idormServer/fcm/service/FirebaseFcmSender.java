@@ -0,0 +1,68 @@
+package idorm.idormServer.fcm.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import idorm.idormServer.fcm.dto.DispatchResult;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FirebaseFcmSender implements FcmSender {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public DispatchResult send(NotificationTemplate template, List<String> tokens) {
+        try {
+            BatchResponse response = firebaseMessaging.sendMulticast(template.toMulticastMessage(tokens));
+            return collect(response, tokens);
+        } catch (FirebaseMessagingException | RuntimeException e) {
+            log.error("[FirebaseFcmSender] 푸시 알림 묶음 발송 실패 | notifyType = {}, tokens = {}",
+                    template.getNotifyType(), tokens.size(), e);
+            return DispatchResult.failed(tokens);
+        }
+    }
+
+    /**
+     * 토큰별 응답 수집 |
+     * BatchResponse의 응답 순서는 요청 토큰 순서와 같다.
+     */
+    private DispatchResult collect(BatchResponse response, List<String> tokens) {
+        List<SendResponse> responses = response.getResponses();
+        List<String> sentTokens = new ArrayList<>(response.getSuccessCount());
+        List<String> invalidTokens = new ArrayList<>();
+        List<String> failedTokens = new ArrayList<>();
+
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful())
+                sentTokens.add(tokens.get(i));
+            else if (isInvalidToken(sendResponse.getException()))
+                invalidTokens.add(tokens.get(i));
+            else
+                failedTokens.add(tokens.get(i));
+        }
+        return new DispatchResult(sentTokens, invalidTokens, failedTokens);
+    }
+
+    /**
+     * 토큰 자체가 더 이상 쓸 수 없는 경우만 만료된 토큰으로 본다.
+     * INVALID_ARGUMENT는 잘못된 메시지(데이터 키, 크기 초과 등)에도 오므로 실패로 보고 재시도한다.
+     */
+    private boolean isInvalidToken(FirebaseMessagingException exception) {
+        if (exception == null)
+            return false;
+
+        MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+        return errorCode == MessagingErrorCode.UNREGISTERED
+                || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH;
+    }
+}
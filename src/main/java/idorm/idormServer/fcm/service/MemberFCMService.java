@@ -1,25 +1,27 @@
 package idorm.idormServer.fcm.service;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.google.firebase.messaging.*;
 import idorm.idormServer.auth.dto.AuthInfo;
-import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.fcm.dto.FcmRequest;
+import idorm.idormServer.fcm.dto.PushTarget;
 import idorm.idormServer.fcm.repository.MemberFCMRepository;
-import idorm.idormServer.member.domain.Member;
-import idorm.idormServer.member.service.MemberService;
+import idorm.idormServer.matchingInfo.domain.DormCategory;
 import idorm.idormServer.support.token.AuthorizationExtractor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
-import static idorm.idormServer.common.exception.ExceptionCode.FIREBASE_SERER_ERROR;
-import static idorm.idormServer.common.exception.ExceptionCode.ILLEGAL_ARGUMENT_FCM_TOKEN;
+import static idorm.idormServer.config.AsyncConfig.PUSH_EXECUTOR;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Slf4j
@@ -28,162 +30,53 @@ import static idorm.idormServer.common.exception.ExceptionCode.ILLEGAL_ARGUMENT_
 @RequiredArgsConstructor
 public class MemberFCMService {
 
+    private static final int PUSH_TARGET_BATCH_SIZE = 1000;
+    private static final int FCM_TOKEN_EXPIRATION_MONTHS = 2;
+
     private final MemberFCMRepository memberFCMRepository;
-    private final MemberService memberService;
     private final AuthorizationExtractor authorizationExtractor;
+    private final Clock clock;
 
-    @Async
+    @Async(PUSH_EXECUTOR)
     public void saveMemberFCM(AuthInfo authInfo, FcmRequest request) {
 
     }
 
-    public List<Message> createMessage(Member member, List<FcmRequest> fcmRequestDtos) {
-        if (member.getFcmToken() == null)
-            return null;
-
-        List<Message> messages = new ArrayList<>();
-
-        for (FcmRequest fcmRequestDto : fcmRequestDtos) {
-
-            Message message = Message.builder()
-                    .putData("channelId", fcmRequestDto.getNotification().getNotifyType().toString())
-                    .putData("contentId", fcmRequestDto.getNotification().getContentId().toString())
-                    .putData("title", fcmRequestDto.getNotification().getTitle())
-                    .putData("content", fcmRequestDto.getNotification().getContent())
-                    .setNotification(Notification.builder()
-                            .setTitle(fcmRequestDto.getNotification().getTitle())
-                            .setBody(fcmRequestDto.getNotification().getContent())
-                            .build()
-                    )
-                    .setAndroidConfig(AndroidConfig.builder()
-                            .setTtl(3600 * 1000) // 1hr
-                            .setPriority(AndroidConfig.Priority.HIGH)
-                            .setNotification(AndroidNotification.builder()
-                                    .setClickAction(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .setChannelId(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .build()
-                            )
-                            .build()
-                    )
-                    .setApnsConfig(ApnsConfig.builder()
-                            .setAps(Aps.builder()
-                                    .setSound("default")
-                                    .setContentAvailable(true)
-                                    .setCategory(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .build())
-                            .build()
-                    )
-                    .setToken(member.getFcmToken())
-                    .build();
-
-            messages.add(message);
-        }
-        return messages;
-    }
-
-    public List<Message> createMessageOfTeamCalendar(List<FcmRequest> fcmRequestDtos) {
-
-        List<Message> messages = new ArrayList<>();
-
-        for (FcmRequest fcmRequestDto : fcmRequestDtos) {
-
-            Message message = Message.builder()
-                    .putData("channelId", fcmRequestDto.getNotification().getNotifyType().toString())
-                    .putData("contentId", fcmRequestDto.getNotification().getContentId().toString())
-                    .putData("title", fcmRequestDto.getNotification().getTitle())
-                    .putData("content", fcmRequestDto.getNotification().getContent())
-                    .setNotification(Notification.builder()
-                            .setTitle(fcmRequestDto.getNotification().getTitle())
-                            .setBody(fcmRequestDto.getNotification().getContent())
-                            .build()
-                    )
-                    .setAndroidConfig(AndroidConfig.builder()
-                            .setTtl(3600 * 1000) // 1hr
-                            .setPriority(AndroidConfig.Priority.HIGH)
-                            .setNotification(AndroidNotification.builder()
-                                    .setClickAction(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .setChannelId(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .build()
-                            )
-                            .build()
-                    )
-                    .setApnsConfig(ApnsConfig.builder()
-                            .setAps(Aps.builder()
-                                    .setSound("default")
-                                    .setContentAvailable(true)
-                                    .setCategory(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .build())
-                            .build()
-                    )
-                    .setToken(fcmRequestDto.getToken())
-                    .build();
-
-            messages.add(message);
-        }
-        return messages;
-    }
-
-    public void sendMessage(Member member, FcmRequest fcmRequestDto) {
-
-        if (fcmRequestDto.getToken() == null)
-            return;
-
-        try {
-            Message message = Message.builder()
-                    .putData("channelId", fcmRequestDto.getNotification().getNotifyType().toString())
-                    .putData("contentId", fcmRequestDto.getNotification().getContentId().toString())
-                    .putData("title", fcmRequestDto.getNotification().getTitle())
-                    .putData("content", fcmRequestDto.getNotification().getContent())
-                    .setNotification(Notification.builder()
-                            .setTitle(fcmRequestDto.getNotification().getTitle())
-                            .setBody(fcmRequestDto.getNotification().getContent())
-                            .build()
-                    )
-                    .setAndroidConfig(AndroidConfig.builder()
-                            .setTtl(3600 * 1000) // 1hr
-                            .setPriority(AndroidConfig.Priority.HIGH)
-                            .setNotification(AndroidNotification.builder()
-                                    .setClickAction(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .setChannelId(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .build()
-                            )
-                            .build()
-                    )
-                    .setApnsConfig(ApnsConfig.builder()
-                            .setAps(Aps.builder()
-                                    .setSound("default")
-                                    .setContentAvailable(true)
-                                    .setCategory(fcmRequestDto.getNotification().getNotifyType().toString())
-                                    .build())
-                            .build()
-                    )
-                    .setToken(fcmRequestDto.getToken())
-                    .build();
-
-            FirebaseMessaging.getInstance().send(message);
-
-        } catch (IllegalArgumentException e) {
-            memberService.deleteFcmToken(member);
-            throw new CustomException(null, ILLEGAL_ARGUMENT_FCM_TOKEN);
-        } catch (FirebaseMessagingException e) {
-
-            if (e.getMessage().contains("account not found")) {
-                memberService.deleteFcmToken(member);
-                throw new CustomException(null, ILLEGAL_ARGUMENT_FCM_TOKEN);
+    /**
+     * 기숙사별 푸시 대상 토큰 배치 순회 |
+     * (토큰 식별자) 기준 keyset 배치로 프로젝션만 조회하므로 회원 엔티티를 영속성 컨텍스트에 쌓지 않는다.
+     * 배치마다 만료된 토큰은 한 번의 DELETE로 정리하고, 유효한 토큰만 batchConsumer에 넘긴다.
+     * 긴 트랜잭션을 만들지 않도록 트랜잭션 없이 실행하고, 각 쿼리는 자체 트랜잭션에서 끝난다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachPushTokenBatch(DormCategory dormCategory, Consumer<List<String>> batchConsumer) {
+        LocalDateTime expiredBefore = LocalDateTime.now(clock).minusMonths(FCM_TOKEN_EXPIRATION_MONTHS);
+        PageRequest batch = PageRequest.of(0, PUSH_TARGET_BATCH_SIZE);
+        Long lastMemberFcmId = 0L;
+
+        while (true) {
+            List<PushTarget> targets = memberFCMRepository.findPushTargetsAfter(dormCategory, lastMemberFcmId, batch);
+            if (targets.isEmpty())
+                return;
+
+            List<Long> expiredIds = new ArrayList<>();
+            List<String> tokens = new ArrayList<>(targets.size());
+
+            for (PushTarget target : targets) {
+                if (target.updatedAt() == null || target.updatedAt().isBefore(expiredBefore))
+                    expiredIds.add(target.memberFcmId());
+                else
+                    tokens.add(target.fcmToken());
             }
 
-            throw new CustomException(e, FIREBASE_SERER_ERROR);
-        }
-    }
-
-    public void sendManyMessages(List<Message> messages) {
-
-        try {
-            BatchResponse response = FirebaseMessaging.getInstance().sendAll(messages);
-
-            log.info(response.getSuccessCount() + " messages were sent successfully");
-        } catch (FirebaseMessagingException e) {
+            if (!expiredIds.isEmpty())
+                memberFCMRepository.deleteAllByIdIn(expiredIds);
+            if (!tokens.isEmpty())
+                batchConsumer.accept(tokens);
 
+            if (targets.size() < PUSH_TARGET_BATCH_SIZE)
+                return;
+            lastMemberFcmId = targets.get(targets.size() - 1).memberFcmId();
         }
     }
 }
@@ -0,0 +1,71 @@
+package idorm.idormServer.fcm.service;
+
+import idorm.idormServer.fcm.dto.DispatchResult;
+import idorm.idormServer.fcm.dto.FcmRequest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import static idorm.idormServer.config.AsyncConfig.PUSH_EXECUTOR;
+import static idorm.idormServer.fcm.service.FcmSender.MULTICAST_TOKEN_LIMIT;
+
+/**
+ * 푸시 알림 다건 발송 |
+ * 같은 알림을 받는 토큰을 FCM multicast 한도(500개) 단위로 나누고, 묶음들을 푸시 전용 executor에서 동시에 발송한다.
+ * 메시지 틀은 알림마다 한 번만 만들고 모든 묶음이 함께 쓴다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final FcmSender fcmSender;
+    private final Executor pushExecutor;
+
+    public NotificationDispatcher(FcmSender fcmSender,
+                                  @Qualifier(PUSH_EXECUTOR) Executor pushExecutor) {
+        this.fcmSender = fcmSender;
+        this.pushExecutor = pushExecutor;
+    }
+
+    /**
+     * 단일 알림 다건 비동기 발송 |
+     * 묶음별 결과를 합쳐서 돌려준다. 묶음 발송 중 예외가 나면 해당 묶음의 토큰은 모두 failedTokens로 본다.
+     */
+    public CompletableFuture<DispatchResult> dispatchAsync(FcmRequest.Notification notification,
+                                                           Collection<String> tokens) {
+        List<String> distinctTokens = tokens.stream()
+                .filter(token -> token != null && !token.isBlank())
+                .distinct()
+                .toList();
+        if (distinctTokens.isEmpty())
+            return CompletableFuture.completedFuture(DispatchResult.empty());
+
+        NotificationTemplate template = NotificationTemplate.from(notification);
+
+        List<CompletableFuture<DispatchResult>> futures = new ArrayList<>();
+        for (int from = 0; from < distinctTokens.size(); from += MULTICAST_TOKEN_LIMIT) {
+            List<String> chunk = distinctTokens.subList(from, Math.min(from + MULTICAST_TOKEN_LIMIT, distinctTokens.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendChunk(template, chunk), pushExecutor));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .reduce(DispatchResult.empty(), DispatchResult::merge));
+    }
+
+    private DispatchResult sendChunk(NotificationTemplate template, List<String> tokens) {
+        try {
+            return fcmSender.send(template, tokens);
+        } catch (RuntimeException e) {
+            log.error("[NotificationDispatcher] 푸시 알림 묶음 발송 실패 | notifyType = {}, tokens = {}",
+                    template.getNotifyType(), tokens.size(), e);
+            return DispatchResult.failed(tokens);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package idorm.idormServer.fcm.service;
+
+import idorm.idormServer.common.exception.CustomException;
+import idorm.idormServer.common.util.Sha256;
+import idorm.idormServer.fcm.domain.NotificationOutbox;
+import idorm.idormServer.fcm.dto.FcmRequest;
+import idorm.idormServer.fcm.repository.MemberFCMRepository;
+import idorm.idormServer.fcm.repository.NotificationOutboxRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static idorm.idormServer.common.exception.ExceptionCode.SERVER_ERROR;
+
+/**
+ * 푸시 알림 발송 대기열 |
+ * 요청 처리 경로와 스케줄러는 적재만 하고, 실제 발송은 NotificationOutboxWorker가 대기열을 비우면서 한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private static final int SENT_RETENTION_DAYS = 7;
+    private static final int ENQUEUE_CHUNK_SIZE = 500;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final MemberFCMRepository memberFCMRepository;
+    private final Clock clock;
+
+    @Value("${notification.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.initial-backoff}")
+    private Duration initialBackoff;
+
+    @Value("${notification.outbox.max-backoff}")
+    private Duration maxBackoff;
+
+    @Value("${notification.outbox.lease}")
+    private Duration lease;
+
+    /**
+     * 푸시 알림 적재 |
+     * eventKey는 알림을 일으킨 사건을 나타내며, 같은 eventKey로 이미 적재된 토큰은 다시 적재하지 않는다.
+     * 중복 여부는 미리 조회하지 않고 INSERT IGNORE로 유니크 키에 맡기므로, 같은 알림을 동시에 적재해도 한 번만 들어간다.
+     * 500(SERVER_ERROR)
+     */
+    @Transactional
+    public int enqueue(String eventKey, FcmRequest.Notification notification, Collection<String> tokens) {
+
+        Map<String, String> tokensByIdempotencyKey = new LinkedHashMap<>();
+        for (String token : tokens) {
+            if (token != null && !token.isBlank())
+                tokensByIdempotencyKey.putIfAbsent(idempotencyKey(eventKey, token), token);
+        }
+
+        if (tokensByIdempotencyKey.isEmpty())
+            return 0;
+
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+
+            List<NotificationOutbox> outboxes = tokensByIdempotencyKey.entrySet().stream()
+                    .map(entry -> new NotificationOutbox(entry.getKey(), notification, entry.getValue(), now))
+                    .toList();
+
+            int enqueued = 0;
+            for (int from = 0; from < outboxes.size(); from += ENQUEUE_CHUNK_SIZE) {
+                List<NotificationOutbox> chunk = outboxes.subList(from,
+                        Math.min(from + ENQUEUE_CHUNK_SIZE, outboxes.size()));
+                enqueued += notificationOutboxRepository.insertAllIgnoringDuplicates(chunk, now);
+            }
+            return enqueued;
+        } catch (RuntimeException e) {
+            throw new CustomException(e, SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 발송 대상 선점 |
+     * 선점한 행은 lease 동안 다른 워커가 가져가지 않는다.
+     */
+    @Transactional
+    public List<NotificationOutbox> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        List<Long> dueIds = notificationOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty())
+            return List.of();
+
+        String claimId = UUID.randomUUID().toString();
+        notificationOutboxRepository.claim(dueIds, claimId, now, now.plus(lease));
+        return notificationOutboxRepository.findAllByClaimId(claimId);
+    }
+
+    /**
+     * 발송 결과 반영 |
+     * 유효하지 않은 토큰은 DEAD로 남기고 회원 토큰에서도 삭제한다.
+     * 실패한 행은 시도 횟수에 따라 지수적으로 늘어나는 간격 뒤에 다시 발송한다.
+     */
+    @Transactional
+    public void complete(Collection<Long> sentIds,
+                         Collection<Long> invalidIds,
+                         Collection<String> invalidTokens,
+                         Collection<Long> failedIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        if (!sentIds.isEmpty())
+            notificationOutboxRepository.markSent(sentIds, now);
+
+        if (!invalidIds.isEmpty()) {
+            notificationOutboxRepository.markDead(invalidIds, NotificationOutbox.INVALID_TOKEN, now);
+            memberFCMRepository.deleteAllByValueIn(invalidTokens);
+        }
+
+        if (!failedIds.isEmpty()) {
+            for (NotificationOutbox outbox : notificationOutboxRepository.findAllById(failedIds)) {
+                outbox.failAttempt(maxAttempts, now.plus(backoff(outbox.getAttempts() + 1)));
+            }
+        }
+    }
+
+    /**
+     * 발송 완료 알림 정리 |
+     * DEAD 알림은 원인 확인을 위해 남겨둔다.
+     */
+    @Transactional
+    public int deleteSentNotifications() {
+        return notificationOutboxRepository.deleteSentBefore(LocalDateTime.now(clock).minusDays(SENT_RETENTION_DAYS));
+    }
+
+    /**
+     * 재시도 간격 |
+     * initialBackoff * 2^(attempts - 1)을 maxBackoff로 자르고, 동시에 실패한 알림이 한꺼번에 재시도하지 않도록 최대 20%를 더한다.
+     */
+    private Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 20);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        if (delay.compareTo(maxBackoff) > 0)
+            delay = maxBackoff;
+
+        long jitterMillis = ThreadLocalRandom.current().nextLong(delay.toMillis() / 5 + 1);
+        return delay.plusMillis(jitterMillis);
+    }
+
+    private String idempotencyKey(String eventKey, String token) {
+        return eventKey + ":" + Sha256.hex(token);
+    }
+}
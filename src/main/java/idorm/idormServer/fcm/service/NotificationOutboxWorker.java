@@ -0,0 +1,89 @@
+package idorm.idormServer.fcm.service;
+
+import idorm.idormServer.fcm.domain.NotificationOutbox;
+import idorm.idormServer.fcm.dto.DispatchResult;
+import idorm.idormServer.fcm.dto.FcmRequest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 알림 대기열 워커 |
+ * 주기적으로 발송할 알림을 batchSize 단위로 선점하고, 같은 알림끼리 묶어서 푸시 전용 executor로 발송한다.
+ * 한 번의 주기에서 최대 maxBatchesPerPoll 묶음까지만 처리해서 다른 스케줄 작업을 오래 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWorker {
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationDispatcher notificationDispatcher;
+
+    @Value("${notification.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-batches-per-poll}")
+    private int maxBatchesPerPoll;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval}")
+    public void drain() {
+        for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+            List<NotificationOutbox> outboxes = notificationOutboxService.claimDue(batchSize);
+            if (outboxes.isEmpty())
+                return;
+
+            deliver(outboxes);
+
+            if (outboxes.size() < batchSize)
+                return;
+        }
+    }
+
+    private void deliver(List<NotificationOutbox> outboxes) {
+        Map<FcmRequest.Notification, List<NotificationOutbox>> outboxesByNotification = outboxes.stream()
+                .collect(Collectors.groupingBy(NotificationOutbox::toNotification, LinkedHashMap::new, Collectors.toList()));
+
+        Map<FcmRequest.Notification, CompletableFuture<DispatchResult>> futures = new LinkedHashMap<>();
+        outboxesByNotification.forEach((notification, group) -> futures.put(notification,
+                notificationDispatcher.dispatchAsync(notification,
+                        group.stream().map(NotificationOutbox::getToken).toList())));
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> invalidIds = new ArrayList<>();
+        List<String> invalidTokens = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+
+        outboxesByNotification.forEach((notification, group) -> {
+            DispatchResult result = futures.get(notification).join();
+            Set<String> sentTokens = new HashSet<>(result.sentTokens());
+            Set<String> groupInvalidTokens = new HashSet<>(result.invalidTokens());
+
+            for (NotificationOutbox outbox : group) {
+                if (sentTokens.contains(outbox.getToken())) {
+                    sentIds.add(outbox.getId());
+                } else if (groupInvalidTokens.contains(outbox.getToken())) {
+                    invalidIds.add(outbox.getId());
+                    invalidTokens.add(outbox.getToken());
+                } else {
+                    failedIds.add(outbox.getId());
+                }
+            }
+        });
+
+        notificationOutboxService.complete(sentIds, invalidIds, invalidTokens, failedIds);
+
+        log.info("[NotificationOutboxWorker] 푸시 알림 발송 | sent = {}, invalid = {}, failed = {}",
+                sentIds.size(), invalidIds.size(), failedIds.size());
+    }
+}
@@ -0,0 +1,92 @@
+package idorm.idormServer.fcm.service;
+
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import idorm.idormServer.fcm.domain.NotifyType;
+import idorm.idormServer.fcm.dto.FcmRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 푸시 알림 메시지 틀 |
+ * 토큰을 제외한 알림 내용과 Android / APNs 설정은 알림마다 한 번만 만들고, 발송할 때는 토큰만 붙여서 메시지를 만든다.
+ * Firebase 설정 객체는 불변이므로 여러 발송 스레드가 같은 틀을 함께 써도 된다.
+ */
+public final class NotificationTemplate {
+
+    private static final long ANDROID_TTL_MILLIS = 3600 * 1000; // 1hr
+
+    @Getter
+    private final NotifyType notifyType;
+    private final Map<String, String> data;
+    private final Notification notification;
+    private final AndroidConfig androidConfig;
+    private final ApnsConfig apnsConfig;
+
+    private NotificationTemplate(FcmRequest.Notification notification) {
+        String channel = notification.getNotifyType().toString();
+
+        Map<String, String> data = new HashMap<>();
+        data.put("channelId", channel);
+        data.put("contentId", String.valueOf(notification.getContentId()));
+        if (notification.getTitle() != null)
+            data.put("title", notification.getTitle());
+        if (notification.getContent() != null)
+            data.put("content", notification.getContent());
+
+        this.notifyType = notification.getNotifyType();
+        this.data = Collections.unmodifiableMap(data);
+        this.notification = Notification.builder()
+                .setTitle(notification.getTitle())
+                .setBody(notification.getContent())
+                .build();
+        this.androidConfig = AndroidConfig.builder()
+                .setTtl(ANDROID_TTL_MILLIS)
+                .setPriority(AndroidConfig.Priority.HIGH)
+                .setNotification(AndroidNotification.builder()
+                        .setClickAction(channel)
+                        .setChannelId(channel)
+                        .build()
+                )
+                .build();
+        this.apnsConfig = ApnsConfig.builder()
+                .setAps(Aps.builder()
+                        .setSound("default")
+                        .setContentAvailable(true)
+                        .setCategory(channel)
+                        .build())
+                .build();
+    }
+
+    public static NotificationTemplate from(FcmRequest.Notification notification) {
+        return new NotificationTemplate(notification);
+    }
+
+    public MulticastMessage toMulticastMessage(List<String> tokens) {
+        return MulticastMessage.builder()
+                .putAllData(data)
+                .setNotification(notification)
+                .setAndroidConfig(androidConfig)
+                .setApnsConfig(apnsConfig)
+                .addAllTokens(tokens)
+                .build();
+    }
+
+    public Message toMessage(String token) {
+        return Message.builder()
+                .putAllData(data)
+                .setNotification(notification)
+                .setAndroidConfig(androidConfig)
+                .setApnsConfig(apnsConfig)
+                .setToken(token)
+                .build();
+    }
+}
@@ -1,10 +1,14 @@
 package idorm.idormServer.matchingInfo.repository;
 
+import idorm.idormServer.matchingInfo.domain.DormCategory;
+import idorm.idormServer.matchingInfo.domain.Gender;
+import idorm.idormServer.matchingInfo.domain.JoinPeriod;
 import idorm.idormServer.matchingInfo.domain.MatchingInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,34 +18,21 @@ public interface MatchingInfoRepository extends JpaRepository<MatchingInfo, Long
 
     Optional<MatchingInfo> findByIdAndIsDeletedIsFalse(Long id);
 
-    List<MatchingInfo> findAllByMemberIdNotAndDormCategoryAndJoinPeriodAndGenderAndIsMatchingInfoPublicTrueAndIsDeletedIsFalse(
-            Long memberId,
-            Character dormCategory,
-            Character joinPeriod,
-            Character gender);
+    @Query(value = "SELECT m FROM MatchingInfo m " +
+            "JOIN FETCH m.member mem " +
+            "WHERE m.dormInfo.dormCategory = :dormCategory AND " +
+            "m.dormInfo.joinPeriod = :joinPeriod AND " +
+            "m.dormInfo.gender = :gender AND " +
+            "m.isPublic = true AND " +
+            "mem.memberStatus = idorm.idormServer.member.domain.MemberStatus.ACTIVE")
+    List<MatchingInfo> findAllPublicByDormInfo(@Param("dormCategory") DormCategory dormCategory,
+                                               @Param("joinPeriod") JoinPeriod joinPeriod,
+                                               @Param("gender") Gender gender);
 
     @Query(value = "SELECT m FROM MatchingInfo m " +
-            "WHERE m.member.id <> :memberId AND " +
-            "m.dormCategory = :dormCategory AND " +
-            "m.joinPeriod = :joinPeriod AND " +
-            "m.gender = :gender AND " +
-            "(m.isSnoring = :isSnoring OR m.isSnoring = false) AND " +
-            "(m.isSmoking = :isSmoking OR m.isSmoking = false) AND " +
-            "(m.isGrinding = :isGrinding OR m.isGrinding = false) AND " +
-            "(m.isWearEarphones = :isWearEarphones OR m.isWearEarphones = false) AND " +
-            "(m.isAllowedFood = :isAllowedFood OR m.isAllowedFood = false) AND " +
-            "m.age >= :minAge AND " +
-            "m.age <= :maxAge AND " +
-            "m.isMatchingInfoPublic = true")
-    List<MatchingInfo> findFilteredMatchingMembers(@Param("memberId") Long memberId,
-                                                   @Param("dormCategory") Character dormCategory,
-                                                   @Param("joinPeriod") Character joinPeriod,
-                                                   @Param("gender") Character gender,
-                                                   @Param("isSnoring") Boolean isSnoring,
-                                                   @Param("isSmoking") Boolean isSmoking,
-                                                   @Param("isGrinding") Boolean isGrinding,
-                                                   @Param("isWearEarphones") Boolean isWearEarphones,
-                                                   @Param("isAllowedFood") Boolean isAllowedFood,
-                                                   @Param("minAge") Integer minAge,
-                                                   @Param("maxAge") Integer maxAge);
-}
\ No newline at end of file
+            "JOIN FETCH m.member mem " +
+            "WHERE mem.id IN :memberIds AND " +
+            "m.isPublic = true AND " +
+            "mem.memberStatus = idorm.idormServer.member.domain.MemberStatus.ACTIVE")
+    List<MatchingInfo> findAllPublicByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+}
@@ -4,6 +4,7 @@ import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.matchingInfo.domain.MatchingInfo;
 import idorm.idormServer.matchingInfo.dto.MatchingInfoRequest;
 import idorm.idormServer.matchingInfo.repository.MatchingInfoRepository;
+import idorm.idormServer.matchingMate.service.MatchingCandidateIndex;
 import idorm.idormServer.member.domain.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ import static idorm.idormServer.common.exception.ExceptionCode.*;
 public class MatchingInfoService {
 
     private final MatchingInfoRepository matchingInfoRepository;
+    private final MatchingCandidateIndex matchingCandidateIndex;
 
     /**
      * 매칭인포 저장 |
@@ -30,6 +32,7 @@ public class MatchingInfoService {
         try {
             MatchingInfo savedMatchingInfo = matchingInfoRepository.save(matchingInfo);
             savedMatchingInfo.getMember().updateDormCategory(savedMatchingInfo.getDormCategory());
+            matchingCandidateIndex.refresh(savedMatchingInfo);
             return savedMatchingInfo;
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
@@ -46,6 +49,7 @@ public class MatchingInfoService {
         try {
             matchingInfo.delete();
             matchingInfo.getMember().updateDormCategory(null);
+            matchingCandidateIndex.remove(matchingInfo.getMember().getId());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -62,6 +66,7 @@ public class MatchingInfoService {
             for (MatchingInfo matchingInfo : member.getAllMatchingInfo()) {
                 matchingInfo.deleteData();
             }
+            matchingCandidateIndex.remove(member.getId());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -76,6 +81,7 @@ public class MatchingInfoService {
 
         try {
             updateMatchingInfo.updateIsMatchingInfoPublic(isMatchingInfoPublic);
+            matchingCandidateIndex.refresh(updateMatchingInfo);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -91,6 +97,7 @@ public class MatchingInfoService {
         try {
             updateMatchingInfo.updateMatchingInfo(request);
             updateMatchingInfo.getMember().updateDormCategory(updateMatchingInfo.getDormCategory());
+            matchingCandidateIndex.refresh(updateMatchingInfo);
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
@@ -4,7 +4,10 @@ import idorm.idormServer.auth.JwtTokenProvider;
 import idorm.idormServer.common.dto.DefaultResponseDto;
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.matchingInfo.domain.MatchingInfo;
+import idorm.idormServer.matchingMate.domain.MatchingCandidate;
+import idorm.idormServer.matchingMate.domain.ScoredCandidate;
 import idorm.idormServer.matchingMate.dto.MatchingMateFilterRequest;
+import idorm.idormServer.matchingMate.dto.MatchingMateRecommendResponse;
 import idorm.idormServer.matchingMate.dto.MatchingMateResponse;
 import idorm.idormServer.matchingInfo.service.MatchingInfoService;
 import idorm.idormServer.matchingMate.service.MatchingMateService;
@@ -24,10 +27,10 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static idorm.idormServer.config.SecurityConfig.API_ROOT_URL_V1;
 import static idorm.idormServer.config.SecurityConfig.AUTHENTICATION_HEADER_NAME;
@@ -63,18 +66,12 @@ public class MatchingMateController {
         long memberId = Long.parseLong(jwtTokenProvider.getUsername(servletRequest.getHeader(AUTHENTICATION_HEADER_NAME)));
         Member member = memberService.findById(memberId);
 
-        List<Member> likedMembers = matchingService.findLikedMembers(member);
+        List<MatchingInfo> likedMatchingInfos = matchingService.findLikedMatchingInfos(member);
 
         List<MatchingMateResponse> response = new ArrayList<>();
 
-        if (likedMembers != null) {
-            for(Member likedMember : likedMembers) {
-                Optional<MatchingInfo> matchingInfo = matchingInfoService.findByMemberOp(likedMember);
-                if (matchingInfo.isEmpty())
-                    continue;
-
-                response.add(new MatchingMateResponse(matchingInfo.get()));
-            }
+        for(MatchingInfo matchingInfo : likedMatchingInfos) {
+            response.add(new MatchingMateResponse(matchingInfo));
         }
         return ResponseEntity.status(200)
                 .body(DefaultResponseDto.builder()
@@ -101,19 +98,12 @@ public class MatchingMateController {
         long loginMemberId = Long.parseLong(jwtTokenProvider.getUsername(servletRequest.getHeader(AUTHENTICATION_HEADER_NAME)));
         Member loginMember = memberService.findById(loginMemberId);
 
-        List<Member> dislikedMembers = matchingService.findDislikedMembers(loginMember);
+        List<MatchingInfo> dislikedMatchingInfos = matchingService.findDislikedMatchingInfos(loginMember);
 
         List<MatchingMateResponse> responses = new ArrayList<>();
 
-        if (dislikedMembers != null) {
-            for(Member dislikedMember : dislikedMembers) {
-
-                Optional<MatchingInfo> matchingInfo = matchingInfoService.findByMemberOp(dislikedMember);
-                if (matchingInfo.isEmpty())
-                    continue;
-
-                responses.add(new MatchingMateResponse(matchingInfo.get()));
-            }
+        for(MatchingInfo matchingInfo : dislikedMatchingInfos) {
+            responses.add(new MatchingMateResponse(matchingInfo));
         }
         return ResponseEntity.status(200)
                 .body(DefaultResponseDto.builder()
@@ -254,13 +244,13 @@ public class MatchingMateController {
         MatchingInfo loginMemberMatchingInfo = matchingInfoService.findByMemberId(loginMemberId);
         matchingInfoService.validateMatchingInfoIsPublic(loginMemberMatchingInfo);
 
-        List<MatchingInfo> foundMatchingInfo = matchingService.findMatchingMembers(loginMemberMatchingInfo);
+        List<MatchingCandidate> foundCandidates = matchingService.findMatchingMembers(loginMemberMatchingInfo);
 
         List<MatchingMateResponse> responses = new ArrayList<>();
 
-        if (foundMatchingInfo != null) {
-            for(MatchingInfo matchingInfo : foundMatchingInfo) {
-                responses.add(new MatchingMateResponse(matchingInfo));
+        if (foundCandidates != null) {
+            for(MatchingCandidate candidate : foundCandidates) {
+                responses.add(new MatchingMateResponse(candidate));
             }
         }
         return ResponseEntity.status(200)
@@ -271,6 +261,53 @@ public class MatchingMateController {
                         .build());
     }
 
+    @Operation(summary = "추천 매칭 회원 다건 조회",
+            description = "- 선호 정보, 나이, mbti, 기상 / 샤워 시간으로 계산한 궁합 점수가 높은 순으로 최대 size 명을 반환합니다.\n" +
+                    "- size는 1 이상 50 이하이며 기본값은 10입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "RECOMMENDED_MATCHING_MEMBERS_FOUND",
+                    content = @Content(schema = @Schema(implementation = MatchingMateRecommendResponse.class))),
+            @ApiResponse(responseCode = "400",
+                    description = "- SIZE_NEGATIVEORZERO_INVALID\n- SIZE_LENGTH_INVALID\n- ILLEGAL_STATEMENT_MATCHINGINFO_NON_PUBLIC"),
+            @ApiResponse(responseCode = "401",
+                    description = "UNAUTHORIZED_MEMBER"),
+            @ApiResponse(responseCode = "404",
+                    description = "MATCHINGINFO_NOT_FOUND"),
+            @ApiResponse(responseCode = "500",
+                    description = "SERVER_ERROR"),
+    })
+    @GetMapping("/member/matching/recommendation")
+    public ResponseEntity<DefaultResponseDto<Object>> findRecommendedMatchingMembers(
+            HttpServletRequest servletRequest,
+            @RequestParam(value = "size", defaultValue = "10")
+            @Positive(message = "추천 회원 수는 양수만 가능합니다.")
+            @Max(value = 50, message = "추천 회원 수는 1 ~ 50 명만 가능합니다.")
+            int size
+    ) {
+
+        long loginMemberId = Long.parseLong(jwtTokenProvider.getUsername(servletRequest.getHeader(AUTHENTICATION_HEADER_NAME)));
+
+        MatchingInfo loginMemberMatchingInfo = matchingInfoService.findByMemberId(loginMemberId);
+        matchingInfoService.validateMatchingInfoIsPublic(loginMemberMatchingInfo);
+
+        List<ScoredCandidate> recommendedCandidates =
+                matchingService.findRecommendedMatchingMembers(loginMemberMatchingInfo, size);
+
+        List<MatchingMateRecommendResponse> responses = new ArrayList<>();
+
+        for(ScoredCandidate scoredCandidate : recommendedCandidates) {
+            responses.add(new MatchingMateRecommendResponse(scoredCandidate));
+        }
+        return ResponseEntity.status(200)
+                .body(DefaultResponseDto.builder()
+                        .responseCode("RECOMMENDED_MATCHING_MEMBERS_FOUND")
+                        .responseMessage("Matching 추천 매칭 회원 조회 완료")
+                        .data(responses)
+                        .build());
+    }
+
     @Operation(summary = "필터링 매칭 회원 다건 조회")
     @ApiResponses(value = {
             @ApiResponse(
@@ -294,13 +331,13 @@ public class MatchingMateController {
         MatchingInfo loginMemberMatchingInfo = matchingInfoService.findByMemberId(loginMemberId);
         matchingInfoService.validateMatchingInfoIsPublic(loginMemberMatchingInfo);
 
-        List<MatchingInfo> foundMatchingInfos = matchingService.findFilteredMatchingMembers(loginMemberMatchingInfo, request);
+        List<MatchingCandidate> foundCandidates = matchingService.findFilteredMatchingMembers(loginMemberMatchingInfo, request);
 
         List<MatchingMateResponse> responses = new ArrayList<>();
 
-        if (foundMatchingInfos != null) {
-            for(MatchingInfo matchingInfo : foundMatchingInfos) {
-                responses.add(new MatchingMateResponse(matchingInfo));
+        if (foundCandidates != null) {
+            for(MatchingCandidate candidate : foundCandidates) {
+                responses.add(new MatchingMateResponse(candidate));
             }
         }
 
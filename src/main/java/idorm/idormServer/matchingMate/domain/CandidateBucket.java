@@ -0,0 +1,141 @@
+package idorm.idormServer.matchingMate.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (기숙사, 입사 기간, 성별) 단위의 매칭 후보 묶음 |
+ * 조회가 변경보다 훨씬 잦으므로 불변 스냅샷으로 두고, 변경 시 새 묶음을 만들어 교체한다.
+ * 후보는 나이 순으로 정렬되어 있고, 선호 정보는 플래그별 비트셋으로 함께 보관한다.
+ */
+public class CandidateBucket {
+
+    private static final CandidateBucket EMPTY = new CandidateBucket(Collections.emptyMap());
+    private static final int PREFERENCE_FLAG_COUNT = 5;
+    private static final int WORD_SHIFT = 6;
+
+    private final Map<Long, MatchingCandidate> candidates;
+    private final List<MatchingCandidate> values;
+    private final int[] ages;
+    private final long[][] preferenceBits;
+
+    private CandidateBucket(Map<Long, MatchingCandidate> candidates) {
+        List<MatchingCandidate> sorted = new ArrayList<>(candidates.values());
+        sorted.sort(Comparator.comparingInt(MatchingCandidate::getAge)
+                .thenComparingLong(MatchingCandidate::getMemberId));
+
+        this.candidates = candidates;
+        this.values = Collections.unmodifiableList(sorted);
+        this.ages = new int[sorted.size()];
+        this.preferenceBits = new long[PREFERENCE_FLAG_COUNT][(sorted.size() + 63) >>> WORD_SHIFT];
+
+        for (int i = 0; i < sorted.size(); i++) {
+            MatchingCandidate candidate = sorted.get(i);
+            ages[i] = candidate.getAge();
+
+            int flags = candidate.getPreferenceFlags();
+            for (int flag = 0; flag < PREFERENCE_FLAG_COUNT; flag++) {
+                if ((flags & (1 << flag)) != 0) {
+                    preferenceBits[flag][i >>> WORD_SHIFT] |= 1L << i;
+                }
+            }
+        }
+    }
+
+    public static CandidateBucket empty() {
+        return EMPTY;
+    }
+
+    public static CandidateBucket of(Collection<MatchingCandidate> candidates) {
+        Map<Long, MatchingCandidate> byMemberId = new HashMap<>(candidates.size() * 2);
+        candidates.forEach(candidate -> byMemberId.put(candidate.getMemberId(), candidate));
+        return new CandidateBucket(byMemberId);
+    }
+
+    public CandidateBucket with(MatchingCandidate candidate) {
+        Map<Long, MatchingCandidate> copied = new HashMap<>(candidates);
+        copied.put(candidate.getMemberId(), candidate);
+        return new CandidateBucket(copied);
+    }
+
+    public CandidateBucket without(long memberId) {
+        if (!candidates.containsKey(memberId)) {
+            return this;
+        }
+        Map<Long, MatchingCandidate> copied = new HashMap<>(candidates);
+        copied.remove(memberId);
+        return new CandidateBucket(copied);
+    }
+
+    public boolean contains(long memberId) {
+        return candidates.containsKey(memberId);
+    }
+
+    public List<MatchingCandidate> getCandidates() {
+        return values;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 선호 정보 및 나이 필터링 |
+     * excludedFlags에 포함된 선호 정보를 가진 후보를 제외하고, minAge 이상 maxAge 이하인 후보만 반환한다.
+     * 나이 범위는 이진 탐색으로 구하고, 선호 정보는 64개 단위 비트 연산으로 걸러낸다.
+     */
+    public List<MatchingCandidate> filter(int excludedFlags, int minAge, int maxAge) {
+        int from = lowerBound(minAge);
+        int to = lowerBound(maxAge + 1);
+
+        if (from >= to) {
+            return Collections.emptyList();
+        }
+
+        List<MatchingCandidate> filtered = new ArrayList<>();
+        int firstWord = from >>> WORD_SHIFT;
+        int lastWord = (to - 1) >>> WORD_SHIFT;
+
+        for (int word = firstWord; word <= lastWord; word++) {
+            long bits = -1L;
+            if (word == firstWord) {
+                bits &= -1L << from;
+            }
+            if (word == lastWord) {
+                bits &= -1L >>> (63 - ((to - 1) & 63));
+            }
+
+            for (int flag = 0; flag < PREFERENCE_FLAG_COUNT && bits != 0; flag++) {
+                if ((excludedFlags & (1 << flag)) != 0) {
+                    bits &= ~preferenceBits[flag][word];
+                }
+            }
+
+            while (bits != 0) {
+                int index = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                filtered.add(values.get(index));
+                bits &= bits - 1;
+            }
+        }
+        return filtered;
+    }
+
+    private int lowerBound(int age) {
+        int low = 0;
+        int high = ages.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ages[mid] < age) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
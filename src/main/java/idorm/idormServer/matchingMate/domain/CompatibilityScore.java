@@ -0,0 +1,62 @@
+package idorm.idormServer.matchingMate.domain;
+
+/**
+ * 룸메이트 궁합 점수 |
+ * 선호 정보(40), 나이(20), mbti(20), 기상 시간(10), 샤워 시간(10)을 합산한 0 ~ 100 점이다.
+ * 후보 묶음 전체를 매 요청마다 계산하므로 문자열 비교 외의 할당 없이 MatchingCandidate 스냅샷만 사용한다.
+ */
+public final class CompatibilityScore {
+
+    public static final int MAX_SCORE = 100;
+
+    private static final int PREFERENCE_FLAG_COUNT = 5;
+    private static final int PREFERENCE_WEIGHT = 8;
+    private static final int AGE_WEIGHT = 20;
+    private static final int AGE_PENALTY_PER_YEAR = 4;
+    private static final int MBTI_WEIGHT_PER_LETTER = 5;
+    private static final int HOUR_WEIGHT = 10;
+    private static final int HOUR_PENALTY_PER_HOUR = 2;
+    private static final int PREFERENCE_MASK = (1 << PREFERENCE_FLAG_COUNT) - 1;
+
+    private CompatibilityScore() {
+    }
+
+    public static int between(MatchingCandidate me, MatchingCandidate other) {
+        return preferenceScore(me, other)
+                + ageScore(me, other)
+                + mbtiScore(me.getMbti(), other.getMbti())
+                + hourScore(me.getWakeUpHour(), other.getWakeUpHour())
+                + hourScore(me.getShowerHour(), other.getShowerHour());
+    }
+
+    private static int preferenceScore(MatchingCandidate me, MatchingCandidate other) {
+        int sameFlags = ~(me.getPreferenceFlags() ^ other.getPreferenceFlags()) & PREFERENCE_MASK;
+        return Integer.bitCount(sameFlags) * PREFERENCE_WEIGHT;
+    }
+
+    private static int ageScore(MatchingCandidate me, MatchingCandidate other) {
+        int diff = Math.abs(me.getAge() - other.getAge());
+        return Math.max(0, AGE_WEIGHT - diff * AGE_PENALTY_PER_YEAR);
+    }
+
+    private static int mbtiScore(String mine, String other) {
+        if (mine == null || other == null || mine.length() != other.length())
+            return 0;
+
+        int score = 0;
+        for (int i = 0; i < mine.length(); i++) {
+            if (Character.toUpperCase(mine.charAt(i)) == Character.toUpperCase(other.charAt(i)))
+                score += MBTI_WEIGHT_PER_LETTER;
+        }
+        return score;
+    }
+
+    private static int hourScore(int mine, int other) {
+        if (mine == MatchingCandidate.UNKNOWN_HOUR || other == MatchingCandidate.UNKNOWN_HOUR)
+            return 0;
+
+        int diff = Math.abs(mine - other);
+        diff = Math.min(diff, 24 - diff);
+        return Math.max(0, HOUR_WEIGHT - diff * HOUR_PENALTY_PER_HOUR);
+    }
+}
@@ -0,0 +1,163 @@
+package idorm.idormServer.matchingMate.domain;
+
+import idorm.idormServer.matchingInfo.domain.DormCategory;
+import idorm.idormServer.matchingInfo.domain.DormInfo;
+import idorm.idormServer.matchingInfo.domain.Gender;
+import idorm.idormServer.matchingInfo.domain.JoinPeriod;
+import idorm.idormServer.matchingInfo.domain.MatchingInfo;
+import idorm.idormServer.matchingInfo.domain.PreferenceInfo;
+import idorm.idormServer.matchingInfo.domain.TextInfo;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매칭 후보 목록 조회용 읽기 전용 스냅샷 |
+ * 기숙사 정보, 선호 정보, 나이는 하나의 int 값에 비트 단위로 압축해서 보관한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MatchingCandidate {
+
+    public static final int SNORING = 1;
+    public static final int GRINDING = 1 << 1;
+    public static final int SMOKING = 1 << 2;
+    public static final int ALLOWED_FOOD = 1 << 3;
+    public static final int WEAR_EARPHONES = 1 << 4;
+
+    private static final int PREFERENCE_MASK = 0x1F;
+    private static final int AGE_SHIFT = 5;
+    private static final int AGE_MASK = 0x7F;
+    private static final int GENDER_SHIFT = 12;
+    private static final int JOIN_PERIOD_SHIFT = 13;
+    private static final int DORM_CATEGORY_SHIFT = 14;
+    private static final int ENUM_MASK = 0x3;
+    public static final int UNKNOWN_HOUR = -1;
+
+    private final long memberId;
+    private final long matchingInfoId;
+
+    @Getter(AccessLevel.NONE)
+    private final int packed;
+
+    private final String wakeUpTime;
+    private final String cleanUpStatus;
+    private final String showerTime;
+    private final String openKakaoLink;
+    private final String mbti;
+    private final String wishText;
+
+    private final int wakeUpHour;
+    private final int showerHour;
+
+    public static MatchingCandidate from(MatchingInfo matchingInfo) {
+        DormInfo dormInfo = matchingInfo.getDormInfo();
+        PreferenceInfo preferenceInfo = matchingInfo.getPreferenceInfo();
+        TextInfo textInfo = matchingInfo.getTextInfo();
+
+        int packed = preferenceFlags(preferenceInfo)
+                | (preferenceInfo.getAge().getValue() & AGE_MASK) << AGE_SHIFT
+                | dormInfo.getGender().ordinal() << GENDER_SHIFT
+                | dormInfo.getJoinPeriod().ordinal() << JOIN_PERIOD_SHIFT
+                | dormInfo.getDormCategory().ordinal() << DORM_CATEGORY_SHIFT;
+
+        return new MatchingCandidate(matchingInfo.getMember().getId(),
+                matchingInfo.getId(),
+                packed,
+                textInfo.getWakeUpTime(),
+                textInfo.getCleanUpStatus(),
+                textInfo.getShowerTime(),
+                matchingInfo.getOpenKakaoLink().getValue(),
+                textInfo.getMbti(),
+                textInfo.getWishText(),
+                parseHour(textInfo.getWakeUpTime()),
+                parseHour(textInfo.getShowerTime()));
+    }
+
+    /**
+     * "아침 7시 기상", "밤 11시" 같은 자유 입력에서 처음 등장하는 시각을 0 ~ 23 으로 추출한다.
+     * 오후 / 저녁 뒤에 오는 12 미만의 시각과 밤 6 ~ 11시는 12시간을 더하고, 밤 1 ~ 5시는 새벽으로 보아 그대로 둔다.
+     * 오전 / 새벽 / 밤 12시는 0시로 본다.
+     */
+    private static int parseHour(String text) {
+        if (text == null)
+            return UNKNOWN_HOUR;
+
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isDigit(text.charAt(i)))
+                continue;
+
+            int end = i;
+            while (end < text.length() && end - i < 2 && Character.isDigit(text.charAt(end)))
+                end++;
+
+            int hour = Integer.parseInt(text.substring(i, end));
+            if (hour > 24)
+                return UNKNOWN_HOUR;
+
+            String prefix = text.substring(0, i);
+            if (hour == 12 && (prefix.contains("오전") || prefix.contains("새벽") || prefix.contains("밤")))
+                hour = 0;
+            else if (hour < 12 && (prefix.contains("오후") || prefix.contains("저녁")))
+                hour += 12;
+            else if (hour >= 6 && hour < 12 && prefix.contains("밤"))
+                hour += 12;
+            return hour % 24;
+        }
+        return UNKNOWN_HOUR;
+    }
+
+    private static int preferenceFlags(PreferenceInfo preferenceInfo) {
+        int flags = 0;
+        if (preferenceInfo.getIsSnoring()) flags |= SNORING;
+        if (preferenceInfo.getIsGrinding()) flags |= GRINDING;
+        if (preferenceInfo.getIsSmoking()) flags |= SMOKING;
+        if (preferenceInfo.getIsAllowedFood()) flags |= ALLOWED_FOOD;
+        if (preferenceInfo.getIsWearEarphones()) flags |= WEAR_EARPHONES;
+        return flags;
+    }
+
+    public int getPreferenceFlags() {
+        return packed & PREFERENCE_MASK;
+    }
+
+    public int getAge() {
+        return (packed >>> AGE_SHIFT) & AGE_MASK;
+    }
+
+    public DormCategory getDormCategory() {
+        return DormCategory.values()[(packed >>> DORM_CATEGORY_SHIFT) & ENUM_MASK];
+    }
+
+    public JoinPeriod getJoinPeriod() {
+        return JoinPeriod.values()[(packed >>> JOIN_PERIOD_SHIFT) & 1];
+    }
+
+    public Gender getGender() {
+        return Gender.values()[(packed >>> GENDER_SHIFT) & 1];
+    }
+
+    public boolean isSnoring() {
+        return hasFlag(SNORING);
+    }
+
+    public boolean isGrinding() {
+        return hasFlag(GRINDING);
+    }
+
+    public boolean isSmoking() {
+        return hasFlag(SMOKING);
+    }
+
+    public boolean isAllowedFood() {
+        return hasFlag(ALLOWED_FOOD);
+    }
+
+    public boolean isWearEarphones() {
+        return hasFlag(WEAR_EARPHONES);
+    }
+
+    private boolean hasFlag(int flag) {
+        return (packed & flag) != 0;
+    }
+}
@@ -0,0 +1,17 @@
+package idorm.idormServer.matchingMate.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScoredCandidate {
+
+    private final MatchingCandidate candidate;
+    private final int score;
+
+    public static ScoredCandidate of(MatchingCandidate candidate, int score) {
+        return new ScoredCandidate(candidate, score);
+    }
+}
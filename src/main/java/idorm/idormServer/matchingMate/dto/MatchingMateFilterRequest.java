@@ -1,6 +1,7 @@
 package idorm.idormServer.matchingMate.dto;
 
 import idorm.idormServer.common.ValidationSequence;
+import idorm.idormServer.matchingMate.domain.MatchingCandidate;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -62,4 +63,17 @@ public class MatchingMateFilterRequest {
     @Schema(required = true, example = "true", description = "이어폰 착용 여부")
     @NotNull(message = "이어폰 착용 의사 여부 입력은 필수입니다.", groups = ValidationSequence.NotNull.class)
     private Boolean isWearEarphones;
+
+    /**
+     * 요청에서 true로 설정된 선호 정보는 해당 성향을 가진 후보를 제외하라는 의미이다.
+     */
+    public int toExcludedPreferenceFlags() {
+        int flags = 0;
+        if (isSnoring) flags |= MatchingCandidate.SNORING;
+        if (isGrinding) flags |= MatchingCandidate.GRINDING;
+        if (isSmoking) flags |= MatchingCandidate.SMOKING;
+        if (isAllowedFood) flags |= MatchingCandidate.ALLOWED_FOOD;
+        if (isWearEarphones) flags |= MatchingCandidate.WEAR_EARPHONES;
+        return flags;
+    }
 }
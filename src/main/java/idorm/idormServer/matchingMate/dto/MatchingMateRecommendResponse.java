@@ -0,0 +1,24 @@
+package idorm.idormServer.matchingMate.dto;
+
+import idorm.idormServer.matchingMate.domain.ScoredCandidate;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(title = "Matching 추천 응답")
+public class MatchingMateRecommendResponse {
+
+    @Schema(description = "궁합 점수 (0 ~ 100)", example = "86")
+    private Integer score;
+
+    @Schema(description = "매칭 회원 정보")
+    private MatchingMateResponse matchingMate;
+
+    public MatchingMateRecommendResponse(ScoredCandidate scoredCandidate) {
+        this.score = scoredCandidate.getScore();
+        this.matchingMate = new MatchingMateResponse(scoredCandidate.getCandidate());
+    }
+}
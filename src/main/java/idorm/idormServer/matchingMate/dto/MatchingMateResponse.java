@@ -4,6 +4,7 @@ import idorm.idormServer.matchingInfo.domain.DormCategory;
 import idorm.idormServer.matchingInfo.domain.Gender;
 import idorm.idormServer.matchingInfo.domain.JoinPeriod;
 import idorm.idormServer.matchingInfo.domain.MatchingInfo;
+import idorm.idormServer.matchingMate.domain.MatchingCandidate;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -73,21 +74,42 @@ public class MatchingMateResponse {
     public MatchingMateResponse(MatchingInfo matchingInfo) {
         this.memberId = matchingInfo.getMember().getId();
         this.matchingInfoId = matchingInfo.getId();
-        this.dormCategory = DormCategory.valueOf(matchingInfo.getDormCategory());
-        this.joinPeriod = JoinPeriod.valueOf(matchingInfo.getJoinPeriod());
-        this.gender = Gender.valueOf(matchingInfo.getGender());
-        this.age = matchingInfo.getAge();
-        this.isSnoring = matchingInfo.getIsSnoring();
-        this.isGrinding = matchingInfo.getIsGrinding();
-        this.isSmoking = matchingInfo.getIsSmoking();
-        this.isAllowedFood = matchingInfo.getIsAllowedFood();
-        this.isWearEarphones = matchingInfo.getIsWearEarphones();
-        this.wakeUpTime = matchingInfo.getWakeUpTime();
-        this.cleanUpStatus = matchingInfo.getCleanUpStatus();
-        this.showerTime = matchingInfo.getShowerTime();
-        this.openKakaoLink = matchingInfo.getOpenKakaoLink();
-        this.mbti = matchingInfo.getMbti();
-        this.wishText = matchingInfo.getWishText();
-        this.isMatchingInfoPublic = matchingInfo.getIsMatchingInfoPublic();
+        this.dormCategory = matchingInfo.getDormInfo().getDormCategory();
+        this.joinPeriod = matchingInfo.getDormInfo().getJoinPeriod();
+        this.gender = matchingInfo.getDormInfo().getGender();
+        this.age = matchingInfo.getPreferenceInfo().getAge().getValue();
+        this.isSnoring = matchingInfo.getPreferenceInfo().getIsSnoring();
+        this.isGrinding = matchingInfo.getPreferenceInfo().getIsGrinding();
+        this.isSmoking = matchingInfo.getPreferenceInfo().getIsSmoking();
+        this.isAllowedFood = matchingInfo.getPreferenceInfo().getIsAllowedFood();
+        this.isWearEarphones = matchingInfo.getPreferenceInfo().getIsWearEarphones();
+        this.wakeUpTime = matchingInfo.getTextInfo().getWakeUpTime();
+        this.cleanUpStatus = matchingInfo.getTextInfo().getCleanUpStatus();
+        this.showerTime = matchingInfo.getTextInfo().getShowerTime();
+        this.openKakaoLink = matchingInfo.getOpenKakaoLink().getValue();
+        this.mbti = matchingInfo.getTextInfo().getMbti();
+        this.wishText = matchingInfo.getTextInfo().getWishText();
+        this.isMatchingInfoPublic = matchingInfo.getIsPublic();
+    }
+
+    public MatchingMateResponse(MatchingCandidate candidate) {
+        this.memberId = candidate.getMemberId();
+        this.matchingInfoId = candidate.getMatchingInfoId();
+        this.dormCategory = candidate.getDormCategory();
+        this.joinPeriod = candidate.getJoinPeriod();
+        this.gender = candidate.getGender();
+        this.age = candidate.getAge();
+        this.isSnoring = candidate.isSnoring();
+        this.isGrinding = candidate.isGrinding();
+        this.isSmoking = candidate.isSmoking();
+        this.isAllowedFood = candidate.isAllowedFood();
+        this.isWearEarphones = candidate.isWearEarphones();
+        this.wakeUpTime = candidate.getWakeUpTime();
+        this.cleanUpStatus = candidate.getCleanUpStatus();
+        this.showerTime = candidate.getShowerTime();
+        this.openKakaoLink = candidate.getOpenKakaoLink();
+        this.mbti = candidate.getMbti();
+        this.wishText = candidate.getWishText();
+        this.isMatchingInfoPublic = true;
     }
 }
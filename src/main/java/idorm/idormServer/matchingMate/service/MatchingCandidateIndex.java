@@ -0,0 +1,135 @@
+package idorm.idormServer.matchingMate.service;
+
+import idorm.idormServer.common.util.TransactionCallbacks;
+import idorm.idormServer.matchingInfo.domain.DormCategory;
+import idorm.idormServer.matchingInfo.domain.DormInfo;
+import idorm.idormServer.matchingInfo.domain.Gender;
+import idorm.idormServer.matchingInfo.domain.JoinPeriod;
+import idorm.idormServer.matchingInfo.domain.MatchingInfo;
+import idorm.idormServer.matchingInfo.repository.MatchingInfoRepository;
+import idorm.idormServer.matchingMate.domain.CandidateBucket;
+import idorm.idormServer.matchingMate.domain.MatchingCandidate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매칭 후보 인메모리 인덱스 |
+ * (기숙사, 입사 기간, 성별) 단위로 공개된 매칭정보 스냅샷을 보관한다.
+ * 묶음은 처음 조회될 때 DB에서 적재하고, 매칭정보 변경 시 커밋 이후에 증분 반영한다.
+ * 증분 반영은 변경한 서버에만 적용되므로, 적재 후 TTL이 지난 묶음은 다음 조회 때 DB에서 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingCandidateIndex {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final MatchingInfoRepository matchingInfoRepository;
+    private final Clock clock;
+
+    private final Map<BucketKey, LoadedBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 매칭 후보 묶음 조회 |
+     * 적재되지 않은 묶음이라면 DB에서 적재한다.
+     */
+    public CandidateBucket findBucket(DormCategory dormCategory, JoinPeriod joinPeriod, Gender gender) {
+        BucketKey key = new BucketKey(dormCategory, joinPeriod, gender);
+        Instant now = clock.instant();
+
+        LoadedBucket loaded = buckets.get(key);
+        if (loaded == null || loaded.isExpired(now)) {
+            loaded = buckets.compute(key, (k, current) ->
+                    current == null || current.isExpired(now) ? new LoadedBucket(load(k), now) : current);
+        }
+        return loaded.bucket();
+    }
+
+    /**
+     * 매칭 후보 다건 조회 |
+     */
+    public List<MatchingCandidate> findCandidates(DormCategory dormCategory, JoinPeriod joinPeriod, Gender gender) {
+        return findBucket(dormCategory, joinPeriod, gender).getCandidates();
+    }
+
+    /**
+     * 매칭 후보 필터링 조회 |
+     * excludedFlags는 MatchingCandidate의 선호 정보 플래그 조합이다.
+     */
+    public List<MatchingCandidate> findFilteredCandidates(DormCategory dormCategory,
+                                                          JoinPeriod joinPeriod,
+                                                          Gender gender,
+                                                          int excludedFlags,
+                                                          int minAge,
+                                                          int maxAge) {
+        return findBucket(dormCategory, joinPeriod, gender).filter(excludedFlags, minAge, maxAge);
+    }
+
+    /**
+     * 매칭정보 생성 / 수정 / 공개 여부 변경 반영 |
+     * 비공개 상태라면 인덱스에서 제거한다.
+     */
+    public void refresh(MatchingInfo matchingInfo) {
+        if (!matchingInfo.getIsPublic()) {
+            remove(matchingInfo.getMember().getId());
+            return;
+        }
+
+        MatchingCandidate candidate = MatchingCandidate.from(matchingInfo);
+        BucketKey target = BucketKey.of(matchingInfo.getDormInfo());
+
+        TransactionCallbacks.afterCommit(() -> {
+            buckets.keySet().stream()
+                    .filter(key -> !key.equals(target))
+                    .forEach(key -> buckets.computeIfPresent(key,
+                            (k, loaded) -> loaded.map(bucket -> bucket.without(candidate.getMemberId()))));
+            buckets.computeIfPresent(target, (k, loaded) -> loaded.map(bucket -> bucket.with(candidate)));
+        });
+    }
+
+    /**
+     * 매칭정보 삭제 / 회원 탈퇴 반영 |
+     */
+    public void remove(Long memberId) {
+        TransactionCallbacks.afterCommit(() -> buckets.replaceAll((key, loaded) -> loaded.map(bucket -> bucket.without(memberId))));
+    }
+
+    private CandidateBucket load(BucketKey key) {
+        List<MatchingCandidate> candidates = matchingInfoRepository.findAllPublicByDormInfo(
+                        key.dormCategory(), key.joinPeriod(), key.gender())
+                .stream()
+                .map(MatchingCandidate::from)
+                .collect(Collectors.toList());
+
+        log.info("[MatchingCandidateIndex] 후보 묶음 적재 | key = {}, size = {}", key, candidates.size());
+        return CandidateBucket.of(candidates);
+    }
+
+    private record LoadedBucket(CandidateBucket bucket, Instant loadedAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(loadedAt.plus(TTL));
+        }
+
+        LoadedBucket map(UnaryOperator<CandidateBucket> change) {
+            return new LoadedBucket(change.apply(bucket), loadedAt);
+        }
+    }
+
+    private record BucketKey(DormCategory dormCategory, JoinPeriod joinPeriod, Gender gender) {
+
+        static BucketKey of(DormInfo dormInfo) {
+            return new BucketKey(dormInfo.getDormCategory(), dormInfo.getJoinPeriod(), dormInfo.getGender());
+        }
+    }
+}
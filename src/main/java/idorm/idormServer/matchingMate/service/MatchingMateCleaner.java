@@ -0,0 +1,39 @@
+package idorm.idormServer.matchingMate.service;
+
+import idorm.idormServer.member.repository.MemberRepository;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 / 싫어요 목록 정리 |
+ * 탈퇴했거나 매칭정보가 비공개인 회원은 목록 조회 시 응답에서만 제외하고,
+ * 실제 row 삭제는 조회 트랜잭션과 분리해서 비동기로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingMateCleaner {
+
+    private final MemberRepository memberRepository;
+
+    @Async
+    public void removeStaleLikedMembers(Long loginMemberId, Collection<Long> staleMemberIds) {
+        try {
+            memberRepository.deleteLikedMembers(loginMemberId, staleMemberIds);
+        } catch (RuntimeException e) {
+            log.warn("[MatchingMateCleaner] 좋아요한 회원 정리 실패 | memberId = {}", loginMemberId, e);
+        }
+    }
+
+    @Async
+    public void removeStaleDislikedMembers(Long loginMemberId, Collection<Long> staleMemberIds) {
+        try {
+            memberRepository.deleteDislikedMembers(loginMemberId, staleMemberIds);
+        } catch (RuntimeException e) {
+            log.warn("[MatchingMateCleaner] 싫어요한 회원 정리 실패 | memberId = {}", loginMemberId, e);
+        }
+    }
+}
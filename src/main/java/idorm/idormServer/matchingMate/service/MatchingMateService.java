@@ -2,8 +2,12 @@ package idorm.idormServer.matchingMate.service;
 
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.matchingInfo.domain.DormCategory;
+import idorm.idormServer.matchingInfo.domain.DormInfo;
 import idorm.idormServer.matchingInfo.domain.JoinPeriod;
 import idorm.idormServer.matchingInfo.domain.MatchingInfo;
+import idorm.idormServer.matchingMate.domain.CompatibilityScore;
+import idorm.idormServer.matchingMate.domain.MatchingCandidate;
+import idorm.idormServer.matchingMate.domain.ScoredCandidate;
 import idorm.idormServer.matchingMate.dto.MatchingMateFilterRequest;
 import idorm.idormServer.matchingInfo.repository.MatchingInfoRepository;
 import idorm.idormServer.member.domain.Member;
@@ -25,6 +29,8 @@ public class MatchingMateService {
 
     private final MatchingInfoRepository matchingInfoRepository;
     private final MemberRepository memberRepository;
+    private final MatchingCandidateIndex matchingCandidateIndex;
+    private final MatchingMateCleaner matchingMateCleaner;
 
     /**
      * 좋아요한 멤버 추가 |
@@ -132,66 +138,50 @@ public class MatchingMateService {
 
     /**
      * 매칭 회원 전체 조회 |
+     * 매칭 후보 인덱스에서 조회하므로 DB를 거치지 않는다. |
      * 500(SERVER_ERROR)
      */
-    public List<MatchingInfo> findMatchingMembers(MatchingInfo matchingInfo) {
+    public List<MatchingCandidate> findMatchingMembers(MatchingInfo matchingInfo) {
 
-        List<MatchingInfo> foundMatchingInfos = null;
+        List<MatchingCandidate> foundCandidates = null;
 
         try {
-            foundMatchingInfos =
-                    matchingInfoRepository.findAllByMemberIdNotAndDormCategoryAndJoinPeriodAndGenderAndIsMatchingInfoPublicTrueAndIsDeletedIsFalse(
-                            matchingInfo.getMember().getId(),
-                            matchingInfo.getDormCategory(),
-                            matchingInfo.getJoinPeriod(),
-                            matchingInfo.getGender()
-                    );
+            DormInfo dormInfo = matchingInfo.getDormInfo();
+            foundCandidates = new ArrayList<>(matchingCandidateIndex.findCandidates(
+                    dormInfo.getDormCategory(),
+                    dormInfo.getJoinPeriod(),
+                    dormInfo.getGender()));
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
 
-        if (foundMatchingInfos.isEmpty()) {
-            return null;
-        }
-
-        List<Member> dislikedMembers = findDislikedMembers(matchingInfo.getMember());
-
-        Iterator<MatchingInfo> iterator = foundMatchingInfos.iterator();
+        excludeSelfAndDislikedMembers(foundCandidates, matchingInfo.getMember());
 
-        while (iterator.hasNext()) {
-            MatchingInfo targetMatchingInfo = iterator.next();
-
-            for (Member dislikedMember : dislikedMembers) {
-                if (targetMatchingInfo.getMember().getIsDeleted())
-                    iterator.remove();
-                else if (Objects.equals(targetMatchingInfo.getMember().getId(), dislikedMember.getId()))
-                    iterator.remove();
-            }
+        if (foundCandidates.isEmpty()) {
+            return null;
         }
-
-        return foundMatchingInfos;
+        return foundCandidates;
     }
 
     /**
      * 매칭 회원 필터링 조회 |
+     * 매칭 후보 인덱스의 비트셋 필터로 조회하므로 DB를 거치지 않는다. |
      * 500(SERVER_ERROR)
      */
-    public List<MatchingInfo> findFilteredMatchingMembers(MatchingInfo matchingInfo,
-                                                          MatchingMateFilterRequest request) {
+    public List<MatchingCandidate> findFilteredMatchingMembers(MatchingInfo matchingInfo,
+                                                               MatchingMateFilterRequest request) {
 
-        List<MatchingInfo> foundMatchingInfos = null;
+        DormCategory dormCategory = DormCategory.validateType(request.getDormCategory());
+        JoinPeriod joinPeriod = JoinPeriod.validateType(request.getJoinPeriod());
+
+        List<MatchingCandidate> foundCandidates = null;
 
         try {
-            foundMatchingInfos = matchingInfoRepository.findFilteredMatchingMembers(
-                    matchingInfo.getMember().getId(),
-                    DormCategory.validateType(request.getDormCategory()).getType(),
-                    JoinPeriod.validateType(request.getJoinPeriod()).getType(),
-                    matchingInfo.getGender(),
-                    !request.getIsSnoring(),
-                    !request.getIsSmoking(),
-                    !request.getIsGrinding(),
-                    !request.getIsWearEarphones(),
-                    !request.getIsAllowedFood(),
+            foundCandidates = matchingCandidateIndex.findFilteredCandidates(
+                    dormCategory,
+                    joinPeriod,
+                    matchingInfo.getDormInfo().getGender(),
+                    request.toExcludedPreferenceFlags(),
                     request.getMinAge(),
                     request.getMaxAge()
             );
@@ -199,105 +189,176 @@ public class MatchingMateService {
             throw new CustomException(e, SERVER_ERROR);
         }
 
-        if (foundMatchingInfos.isEmpty()) {
+        excludeSelfAndDislikedMembers(foundCandidates, matchingInfo.getMember());
+
+        if (foundCandidates.isEmpty()) {
             return null;
         }
+        return foundCandidates;
+    }
 
-        List<Member> dislikedMembers = findDislikedMembers(matchingInfo.getMember());
-
-        Iterator<MatchingInfo> iterator = foundMatchingInfos.iterator();
+    /**
+     * 좋아요한 회원 매칭정보 전체 조회 |
+     * 탈퇴했거나 매칭정보가 비공개인 회원은 응답에서 제외하고 비동기로 목록에서 삭제한다. |
+     * 500(SERVER_ERROR)
+     */
+    public List<MatchingInfo> findLikedMatchingInfos(Member member) {
+        List<Long> likedMembersId = null;
 
-        while (iterator.hasNext()) {
-            MatchingInfo targetMatchingInfo = iterator.next();
+        try {
+            likedMembersId = memberRepository.findlikedMembersByLoginMemberId(member.getId());
+        } catch (RuntimeException e) {
+            throw new CustomException(e, SERVER_ERROR);
+        }
 
-            for (Member dislikedMember : dislikedMembers) {
+        List<MatchingInfo> likedMatchingInfos = findPublicMatchingInfos(likedMembersId);
 
-                if (targetMatchingInfo.getMember().getIsDeleted())
-                    iterator.remove();
-                else if (Objects.equals(targetMatchingInfo.getMember().getId(), dislikedMember.getId()))
-                    iterator.remove();
-            }
-        }
+        Set<Long> staleMemberIds = findStaleMemberIds(likedMembersId, likedMatchingInfos);
+        if (!staleMemberIds.isEmpty())
+            matchingMateCleaner.removeStaleLikedMembers(member.getId(), staleMemberIds);
 
-        return foundMatchingInfos;
+        return likedMatchingInfos;
     }
 
     /**
-     * 좋아요한 회원 전체 조회 |
+     * 싫어요한 회원 매칭정보 전체 조회 |
+     * 탈퇴했거나 매칭정보가 비공개인 회원은 응답에서 제외하고 비동기로 목록에서 삭제한다. |
      * 500(SERVER_ERROR)
      */
-    public List<Member> findLikedMembers(Member member) {
-        List<Long> likedMembersId = null;
+    public List<MatchingInfo> findDislikedMatchingInfos(Member member) {
+        List<Long> dislikedMembersId = null;
 
         try {
-            likedMembersId = memberRepository.findlikedMembersByLoginMemberId(member.getId());
+            dislikedMembersId = memberRepository.findDislikedMembersByLoginMemberId(member.getId());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
 
-        if (likedMembersId == null)
-            return null;
+        List<MatchingInfo> dislikedMatchingInfos = findPublicMatchingInfos(dislikedMembersId);
 
-        List<Member> likedMembers = new ArrayList<>();
+        Set<Long> staleMemberIds = findStaleMemberIds(dislikedMembersId, dislikedMatchingInfos);
+        if (!staleMemberIds.isEmpty())
+            matchingMateCleaner.removeStaleDislikedMembers(member.getId(), staleMemberIds);
 
-        for (Long memberId : likedMembersId) {
-            Optional<Member> likedMember = memberRepository.findByIdAndIsDeletedIsFalse(memberId);
-            Optional<MatchingInfo> matchingInfo = Optional.empty();
+        return dislikedMatchingInfos;
+    }
 
-            if (likedMember.isPresent())
-                matchingInfo = matchingInfoRepository.findByMemberIdAndIsDeletedIsFalse(likedMember.get().getId());
+    /**
+     * 공개된 매칭정보 일괄 조회 |
+     * 회원 식별자 목록의 순서를 유지해서 반환한다. |
+     * 500(SERVER_ERROR)
+     */
+    private List<MatchingInfo> findPublicMatchingInfos(List<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty())
+            return new ArrayList<>();
 
-            if (matchingInfo.isEmpty())
-                removeLikedMember(member, memberId);
-            else if (!matchingInfo.get().getIsMatchingInfoPublic())
-                removeLikedMember(member, memberId);
-            else
-                likedMembers.add(likedMember.get());
+        List<MatchingInfo> foundMatchingInfos = null;
 
+        try {
+            foundMatchingInfos = matchingInfoRepository.findAllPublicByMemberIdIn(memberIds);
+        } catch (RuntimeException e) {
+            throw new CustomException(e, SERVER_ERROR);
+        }
+
+        Map<Long, MatchingInfo> matchingInfosByMemberId = new HashMap<>();
+        for (MatchingInfo matchingInfo : foundMatchingInfos) {
+            matchingInfosByMemberId.put(matchingInfo.getMember().getId(), matchingInfo);
+        }
+
+        List<MatchingInfo> matchingInfos = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            MatchingInfo matchingInfo = matchingInfosByMemberId.get(memberId);
+            if (matchingInfo != null)
+                matchingInfos.add(matchingInfo);
+        }
+        return matchingInfos;
+    }
+
+    /**
+     * 공개된 매칭정보가 없는 회원 식별자 조회 |
+     */
+    private Set<Long> findStaleMemberIds(List<Long> memberIds, List<MatchingInfo> matchingInfos) {
+        if (memberIds == null)
+            return Collections.emptySet();
+
+        Set<Long> staleMemberIds = new HashSet<>(memberIds);
+        for (MatchingInfo matchingInfo : matchingInfos) {
+            staleMemberIds.remove(matchingInfo.getMember().getId());
         }
-        return likedMembers;
+        return staleMemberIds;
     }
 
     /**
-     * 싫어요한 회원 전체 조회 |
+     * 추천 매칭 회원 조회 |
+     * 같은 (기숙사, 입사 기간, 성별) 후보 중 궁합 점수가 높은 순으로 최대 size 명을 반환한다.
+     * 크기 size의 최소 힙으로 상위 후보만 유지하므로 전체 정렬 없이 O(n log size)로 선택한다. |
      * 500(SERVER_ERROR)
      */
-    public List<Member> findDislikedMembers(Member member) {
-        List<Long> dislikedMembersId = null;
+    public List<ScoredCandidate> findRecommendedMatchingMembers(MatchingInfo matchingInfo, int size) {
+
+        List<MatchingCandidate> candidates = null;
 
         try {
-            dislikedMembersId = memberRepository.findDislikedMembersByLoginMemberId(member.getId());
+            DormInfo dormInfo = matchingInfo.getDormInfo();
+            candidates = matchingCandidateIndex.findCandidates(
+                    dormInfo.getDormCategory(),
+                    dormInfo.getJoinPeriod(),
+                    dormInfo.getGender());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
 
-        if (dislikedMembersId == null)
-            return null;
+        MatchingCandidate me = MatchingCandidate.from(matchingInfo);
+        Set<Long> excludedMemberIds = findExcludedMemberIds(matchingInfo.getMember());
+
+        Comparator<ScoredCandidate> ranking = Comparator.comparingInt(ScoredCandidate::getScore)
+                .thenComparing(scored -> scored.getCandidate().getMemberId(), Comparator.reverseOrder());
+        PriorityQueue<ScoredCandidate> topCandidates = new PriorityQueue<>(size + 1, ranking);
 
-        List<Member> dislikedMembers = new ArrayList<>();
+        for (MatchingCandidate candidate : candidates) {
+            if (excludedMemberIds.contains(candidate.getMemberId()))
+                continue;
 
-        for (Long memberId : dislikedMembersId) {
-            Optional<Member> dislikedMember = null;
+            ScoredCandidate scored = ScoredCandidate.of(candidate, CompatibilityScore.between(me, candidate));
+            if (topCandidates.size() == size && ranking.compare(scored, topCandidates.peek()) <= 0)
+                continue;
+
+            topCandidates.offer(scored);
+            if (topCandidates.size() > size)
+                topCandidates.poll();
+        }
 
-            try {
-                dislikedMember = memberRepository.findByIdAndIsDeletedIsFalse(memberId);
-            } catch (RuntimeException e) {
-                throw new CustomException(e, SERVER_ERROR);
-            }
+        List<ScoredCandidate> recommended = new ArrayList<>(topCandidates);
+        recommended.sort(ranking.reversed());
+        return recommended;
+    }
 
-            Optional<MatchingInfo> matchingInfo = Optional.empty();
+    /**
+     * 본인 및 싫어요한 회원 제외 |
+     * 500(SERVER_ERROR)
+     */
+    private void excludeSelfAndDislikedMembers(List<MatchingCandidate> candidates, Member loginMember) {
+        Set<Long> excludedMemberIds = findExcludedMemberIds(loginMember);
+        candidates.removeIf(candidate -> excludedMemberIds.contains(candidate.getMemberId()));
+    }
 
-            if (dislikedMember.isPresent())
-                matchingInfo = matchingInfoRepository.findByMemberIdAndIsDeletedIsFalse(dislikedMember.get().getId());
+    /**
+     * 매칭 후보에서 제외할 회원 식별자 조회 |
+     * 싫어요한 회원 식별자를 한 번만 조회해서 본인과 함께 해시 집합으로 반환한다. |
+     * 500(SERVER_ERROR)
+     */
+    private Set<Long> findExcludedMemberIds(Member loginMember) {
+        List<Long> dislikedMemberIds = null;
 
-            if (matchingInfo.isEmpty())
-                removeDislikedMember(member, memberId);
-            else if (!matchingInfo.get().getIsMatchingInfoPublic())
-                removeDislikedMember(member, memberId);
-            else
-                dislikedMembers.add(dislikedMember.get());
+        try {
+            dislikedMemberIds = memberRepository.findDislikedMembersByLoginMemberId(loginMember.getId());
+        } catch (RuntimeException e) {
+            throw new CustomException(e, SERVER_ERROR);
         }
-        return dislikedMembers;
+
+        Set<Long> excludedMemberIds = new HashSet<>(dislikedMemberIds);
+        excludedMemberIds.add(loginMember.getId());
+        return excludedMemberIds;
     }
 
     /**
@@ -73,6 +73,10 @@ public class Member {
         return member;
     }
 
+    public boolean isDeleted() {
+        return memberStatus == MemberStatus.DELETED;
+    }
+
     void updateNickname(Nickname nickname) {
         this.nickname = nickname;
     }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,10 +33,6 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsByNicknameAndIsDeletedIsFalse(String nickname);
 
-    List<Member> findByDormCategoryAndIdIsNotAndIsDeletedIsFalseAndFcmTokenIsNotNull(Character dormCategory, Long id);
-
-    Optional<Member> findByIdAndIsDeletedIsFalseAndFcmTokenIsNotNull(Long id);
-
     @Query(value = "SELECT liked_member " +
             "FROM liked_members d " +
             "WHERE d.member_id = :memberId", nativeQuery = true)
@@ -77,4 +74,22 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
             "WHERE disliked_members.member_id = :memberId || " +
             "disliked_members.disliked_member = :memberId", nativeQuery = true)
     void deleteAllDislikedMembersByDeletedMember(@Param("memberId") Long deletedMemberId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE " +
+            "FROM liked_members " +
+            "WHERE liked_members.member_id = :memberId " +
+            "AND liked_members.liked_member IN (:likedMemberIds)", nativeQuery = true)
+    void deleteLikedMembers(@Param("memberId") Long memberId,
+                            @Param("likedMemberIds") Collection<Long> likedMemberIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE " +
+            "FROM disliked_members " +
+            "WHERE disliked_members.member_id = :memberId " +
+            "AND disliked_members.disliked_member IN (:dislikedMemberIds)", nativeQuery = true)
+    void deleteDislikedMembers(@Param("memberId") Long memberId,
+                               @Param("dislikedMemberIds") Collection<Long> dislikedMemberIds);
+}
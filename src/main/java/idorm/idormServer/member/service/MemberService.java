@@ -2,6 +2,7 @@ package idorm.idormServer.member.service;
 
 import idorm.idormServer.auth.dto.AuthInfo;
 import idorm.idormServer.auth.encryptor.EncryptorI;
+import idorm.idormServer.auth.service.LoginMemberCache;
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.matchingInfo.domain.DormCategory;
 import idorm.idormServer.member.domain.Member;
@@ -21,9 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static idorm.idormServer.common.exception.ExceptionCode.*;
 
@@ -35,6 +34,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final EmailService emailService;
     private final EncryptorI encryptor;
+    private final LoginMemberCache loginMemberCache;
     private final Clock clock;
 
     @Transactional
@@ -67,6 +67,7 @@ public class MemberService {
 
         validate(member.getNickname(), newNickname);
         member.updateNickname(newNickname);
+        loginMemberCache.evict(member.getId());
     }
 
     @Transactional
@@ -77,6 +78,7 @@ public class MemberService {
         Member member = memberRepository.findByEmailAndMemberStatusIsActive(passwordUpdateRequest.email())
                 .orElseThrow(() -> new CustomException(null, MEMBER_NOT_FOUND));
         member.updatePassword(password);
+        loginMemberCache.evict(member.getId());
     }
 
     private void validate(final SignupRequest signupRequest) {
@@ -101,60 +103,4 @@ public class MemberService {
             throw new CustomException(null, DUPLICATE_NICKNAME);
         }
     }
-
-    /**
-     * FCM용 1 기숙사 회원 조회 |
-     * 500(SERVER_ERROR)
-     */
-    public List<Member> findAllOfDorm1() {
-
-        try {
-            return memberRepository.findByDormCategoryAndIdIsNotAndIsDeletedIsFalseAndFcmTokenIsNotNull(DormCategory.DORM1.getType(), 1L);
-        } catch (RuntimeException e) {
-            throw new CustomException(e, SERVER_ERROR);
-        }
-    }
-
-    /**
-     * FCM용 2 기숙사 회원 조회 |
-     * 500(SERVER_ERROR)
-     */
-    public List<Member> findAllOfDorm2() {
-
-        try {
-            return memberRepository.findByDormCategoryAndIdIsNotAndIsDeletedIsFalseAndFcmTokenIsNotNull(DormCategory.DORM2.getType(), 1L);
-        } catch (RuntimeException e) {
-            throw new CustomException(e, SERVER_ERROR);
-        }
-    }
-
-    /**
-     * FCM용 3 기숙사 회원 조회 |
-     * 500(SERVER_ERROR)
-     */
-    public List<Member> findAllOfDorm3() {
-
-        try {
-            return memberRepository.findByDormCategoryAndIdIsNotAndIsDeletedIsFalseAndFcmTokenIsNotNull(DormCategory.DORM3.getType(), 1L);
-        } catch (RuntimeException e) {
-            throw new CustomException(e, SERVER_ERROR);
-        }
-    }
-
-    /**
-     * FCM용 팀 일정 대상자 회원 조회 |
-     * 500(SERVER_ERROR)
-     */
-    public List<Member> findTeamTargetMembers(List<Long> memberIds) {
-        try {
-            List<Member> members = new ArrayList<>();
-            for (Long memberId : memberIds) {
-                Optional<Member> member = memberRepository.findByIdAndIsDeletedIsFalseAndFcmTokenIsNotNull(memberId);
-                member.ifPresent(members::add);
-            }
-            return members;
-        } catch (RuntimeException e) {
-            throw new CustomException(e, SERVER_ERROR);
-        }
-    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package idorm.idormServer.member.service;
 
+import idorm.idormServer.auth.service.LoginMemberCache;
 import idorm.idormServer.calendar.service.OfficialCalendarServiceFacade;
 import idorm.idormServer.matchingInfo.domain.MatchingInfo;
 import idorm.idormServer.matchingInfo.service.MatchingInfoService;
@@ -25,6 +26,7 @@ public class MemberServiceFacade {
 
     private final PasswordEncoder passwordEncoder;
     private final MemberService memberService;
+    private final LoginMemberCache loginMemberCache;
     private final EmailService emailService;
     private final MemberPhotoService memberPhotoService;
     private final MatchingMateService matchingService;
@@ -70,6 +72,7 @@ public class MemberServiceFacade {
         emailService.deleteData(email);
         emailService.delete(email);
         memberService.delete(member);
+        loginMemberCache.evict(member.getId());
 
         if (!member.getAllMemberPhoto().isEmpty()) {
             memberPhotoService.deleteFromS3(member);
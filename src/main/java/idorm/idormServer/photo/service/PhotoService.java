@@ -6,6 +6,8 @@ import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import idorm.idormServer.common.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,9 +18,11 @@ import java.io.IOException;
 import java.util.Objects;
 
 import static idorm.idormServer.common.exception.ExceptionCode.*;
+import static idorm.idormServer.config.AsyncConfig.PHOTO_EXECUTOR;
 
 // util? interface화?
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -64,11 +68,18 @@ public class PhotoService {
         }
     }
 
-    public void deleteFileFromS3(String bucketname, String filePath) {;
+    /**
+     * S3 파일 삭제 |
+     * 응답을 기다릴 필요가 없으므로 사진 전용 executor에서 실행한다.
+     * 호출한 요청에는 실패가 전달되지 않으므로 예외를 던지지 않고, 실패한 버킷과 경로를 에러 로그로 남긴다.
+     */
+    @Async(PHOTO_EXECUTOR)
+    public void deleteFileFromS3(String bucketname, String filePath) {
         try {
             amazonS3Client.deleteObject(bucketname, filePath);
         } catch (SdkClientException e) {
-            throw new CustomException(e, S3_SERVER_ERROR);
+            log.error("[THROWING] PhotoService | deleteFileFromS3 | bucket = {} | path = {} | throwing = {}",
+                    bucketname, filePath, e.getMessage(), e);
         }
     }
 }
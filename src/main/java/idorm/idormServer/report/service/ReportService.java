@@ -2,6 +2,8 @@ package idorm.idormServer.report.service;
 
 import idorm.idormServer.community.domain.Comment;
 import idorm.idormServer.community.domain.Post;
+import idorm.idormServer.community.repository.CommentRepository;
+import idorm.idormServer.community.repository.PostRepository;
 import idorm.idormServer.common.exception.CustomException;
 import idorm.idormServer.member.domain.Member;
 import idorm.idormServer.report.domain.Report;
@@ -19,9 +21,12 @@ import static idorm.idormServer.common.exception.ExceptionCode.SERVER_ERROR;
 public class ReportService {
 
     private final ReportRepository reportRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
 
     /**
      * 신고 저장 |
+     * 신고 대상 게시글 / 댓글의 신고 수도 함께 증가시킨다. |
      * 500(SERVER_ERROR)
      */
     @Transactional
@@ -29,6 +34,11 @@ public class ReportService {
 
         try {
             reportRepository.save(report);
+
+            if (report.getReportedPost() != null)
+                postRepository.increaseReportCount(report.getReportedPost().getId());
+            if (report.getReportedComment() != null)
+                commentRepository.increaseReportCount(report.getReportedComment().getId());
         } catch (RuntimeException e) {
             throw new CustomException(e, SERVER_ERROR);
         }
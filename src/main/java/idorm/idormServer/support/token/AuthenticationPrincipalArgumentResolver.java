@@ -1,6 +1,7 @@
 package idorm.idormServer.support.token;
 
 import idorm.idormServer.auth.dto.AuthInfo;
+import idorm.idormServer.auth.service.LoginMemberCache;
 import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
 import org.springframework.core.MethodParameter;
@@ -11,10 +12,17 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 
 public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
 
+    /**
+     * AuthInterceptor가 검증한 토큰의 AuthInfo를 담는 요청 속성 |
+     */
+    public static final String VERIFIED_AUTH_INFO = AuthenticationPrincipalArgumentResolver.class.getName() + ".AUTH_INFO";
+
     private final TokenManager tokenManager;
+    private final LoginMemberCache loginMemberCache;
 
-    public AuthenticationPrincipalArgumentResolver(TokenManager tokenManager) {
+    public AuthenticationPrincipalArgumentResolver(TokenManager tokenManager, LoginMemberCache loginMemberCache) {
         this.tokenManager = tokenManager;
+        this.loginMemberCache = loginMemberCache;
     }
 
     @Override
@@ -26,10 +34,15 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        Object verified = Objects.requireNonNull(request).getAttribute(VERIFIED_AUTH_INFO);
+        if (verified instanceof AuthInfo authInfo)
+            return loginMemberCache.get(authInfo.getId());
+
         String token = AuthorizationExtractor.extractAccessToken(Objects.requireNonNull(request));
         if (token == null) {
             return new AuthInfo(null, null, null);
         }
-        return tokenManager.getParsedClaims(token);
+        AuthInfo claims = tokenManager.getParsedClaims(token);
+        return loginMemberCache.get(claims.getId());
     }
 }
@@ -1,33 +1,50 @@
 package idorm.idormServer.support.token;
 
 import idorm.idormServer.auth.dto.AuthInfo;
+import idorm.idormServer.common.util.ExpiringCache;
+import idorm.idormServer.common.util.Sha256;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 검증을 마친 토큰은 토큰 해시별로 (AuthInfo, 만료 시각)을 보관해서 VERIFIED_TOKEN_TTL 동안 서명을 다시 검증하지 않는다.
+ * 보관 중이라도 토큰 자체의 만료 시각이 지나면 유효하지 않은 토큰으로 본다.
+ */
 @Component
 public class JwtTokenProvider implements TokenManager {
 
+    private static final Duration VERIFIED_TOKEN_TTL = Duration.ofMinutes(5);
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
     private final Key signingKey;
     private final long accessTokenValidityMilliseconds;
     private final long refreshTokenValidityMilliseconds;
+    private final Clock clock;
+    private final ExpiringCache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(@Value("${security.jwt.token.secret-key}") String secretKey,
                             @Value("${security.jwt.token.expire-length.access}") long accessTokenValidityMilliseconds,
-                            @Value("${security.jwt.token.expire-length.refresh}") long refreshTokenValidityMilliseconds) {
+                            @Value("${security.jwt.token.expire-length.refresh}") long refreshTokenValidityMilliseconds,
+                            Clock clock) {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
         this.accessTokenValidityMilliseconds = accessTokenValidityMilliseconds;
         this.refreshTokenValidityMilliseconds = refreshTokenValidityMilliseconds;
+        this.clock = clock;
+        this.verifiedTokens = new ExpiringCache<>(clock, VERIFIED_TOKEN_TTL, MAX_VERIFIED_TOKENS);
     }
 
 
@@ -51,7 +68,9 @@ public class JwtTokenProvider implements TokenManager {
         Date now = new Date();
         Date validity = new Date(now.getTime() + refreshTokenValidityMilliseconds);
 
+        // iat / exp 는 초 단위라 같은 초에 발급된 토큰이 겹치지 않도록 jti 를 넣는다.
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(SignatureAlgorithm.HS256, signingKey)
@@ -60,6 +79,10 @@ public class JwtTokenProvider implements TokenManager {
 
     @Override
     public AuthInfo getParsedClaims(String token) {
+        Optional<AuthInfo> verified = verify(token);
+        if (verified.isPresent())
+            return verified.get();
+
         Claims claims;
         try {
             claims = Jwts.parser()
@@ -67,28 +90,59 @@ public class JwtTokenProvider implements TokenManager {
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
-            Long id = (Long) e.getClaims().get("id");
-            String role = (String) e.getClaims().get("role");
-            String nickname = (String) e.getClaims().get("nickname");
-            return new AuthInfo(id, role, nickname);
+            return toAuthInfo(e.getClaims());
         }
 
-        Long id = (Long) claims.get("id");
-        String role = (String) claims.get("role");
-        String nickname = (String) claims.get("nickname");
-        return new AuthInfo(id, role, nickname);
+        return toAuthInfo(claims);
     }
 
     @Override
     public boolean isValid(String token) {
+        return verify(token).isPresent();
+    }
+
+    @Override
+    public Optional<AuthInfo> verify(String token) {
+        if (token == null)
+            return Optional.empty();
+
+        String tokenHash = Sha256.hex(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null)
+            return cached.isExpiredAt(clock.millis()) ? Optional.empty() : Optional.of(cached.authInfo());
+
         try {
-            Jws<Claims> claims = Jwts.parser()
+            Claims claims = Jwts.parser()
                     .setSigningKey(signingKey)
-                    .parseClaimsJws(token);
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            Date expiration = claims.getExpiration();
+            if (expiration.before(new Date(clock.millis())))
+                return Optional.empty();
 
-            return !claims.getBody().getExpiration().before(new Date());
+            AuthInfo authInfo = toAuthInfo(claims);
+            verifiedTokens.put(tokenHash, new VerifiedToken(authInfo, expiration.getTime()));
+            return Optional.of(authInfo);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * JSON 으로 역직렬화된 id 클레임은 값 크기에 따라 Integer 로 오므로 Number 로 받아 Long 으로 변환한다.
+     */
+    private AuthInfo toAuthInfo(Claims claims) {
+        Number id = (Number) claims.get("id");
+        return new AuthInfo(id == null ? null : id.longValue(),
+                (String) claims.get("role"),
+                (String) claims.get("nickname"));
+    }
+
+    private record VerifiedToken(AuthInfo authInfo, long expiresAtMillis) {
+
+        boolean isExpiredAt(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
         }
     }
 }
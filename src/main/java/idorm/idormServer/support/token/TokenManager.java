@@ -1,6 +1,7 @@
 package idorm.idormServer.support.token;
 
 import idorm.idormServer.auth.dto.AuthInfo;
+import java.util.Optional;
 
 public interface TokenManager {
 
@@ -11,4 +12,9 @@ public interface TokenManager {
     AuthInfo getParsedClaims(String token);
 
     boolean isValid(String token);
+
+    /**
+     * 유효한 토큰이라면 토큰의 AuthInfo를, 아니라면 빈 값을 반환한다.
+     */
+    Optional<AuthInfo> verify(String token);
 }
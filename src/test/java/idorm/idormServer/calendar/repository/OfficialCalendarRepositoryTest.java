@@ -0,0 +1,135 @@
+package idorm.idormServer.calendar.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import idorm.idormServer.calendar.domain.OfficialCalendar;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:official_calendar;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OfficialCalendarRepositoryTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    @Autowired
+    private OfficialCalendarRepository officialCalendarRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private SimpleJdbcInsert officialCalendarInsert;
+
+    @BeforeEach
+    void setUp() {
+        officialCalendarInsert = new SimpleJdbcInsert(dataSource)
+                .withTableName("official_calendar")
+                .usingGeneratedKeyColumns("official_calendar_id");
+    }
+
+    @Test
+    @DisplayName("월 조회는 [1일, 다음 달 1일) 과 겹치는 일정만 반환한다")
+    void findAllPublicOverlapping() {
+        long endsOnFirst = save("2024-02-20", "2024-03-01", "2024-02-01", true);
+        long endsOnLastDayOfPreviousMonth = save("2024-02-20", "2024-02-29", "2024-02-01", true);
+        long startsOnLastDay = save("2024-03-31", "2024-04-02", "2024-03-01", true);
+        long startsOnNextFirst = save("2024-04-01", "2024-04-03", "2024-03-01", true);
+        long spansMonth = save("2024-02-01", "2024-04-30", "2024-01-01", true);
+        long notPublic = save("2024-03-10", "2024-03-10", "2024-03-01", false);
+
+        List<Long> found = ids(officialCalendarRepository.findAllPublicOverlapping(
+                MARCH.atDay(1), MARCH.plusMonths(1).atDay(1)));
+
+        assertThat(found).containsExactlyInAnyOrder(endsOnFirst, startsOnLastDay, spansMonth);
+        assertThat(found).doesNotContain(endsOnLastDayOfPreviousMonth, startsOnNextFirst, notPublic);
+    }
+
+    @Test
+    @DisplayName("다음 달 1일에 끝나는 일정은 다음 달 조회에도 포함된다")
+    void findAllPublicOverlappingEndingOnFirstOfNextMonth() {
+        long endsOnNextFirst = save("2024-03-30", "2024-04-01", "2024-03-01", true);
+
+        assertThat(ids(officialCalendarRepository.findAllPublicOverlapping(
+                MARCH.atDay(1), MARCH.plusMonths(1).atDay(1)))).containsExactly(endsOnNextFirst);
+        assertThat(ids(officialCalendarRepository.findAllPublicOverlapping(
+                MARCH.plusMonths(1).atDay(1), MARCH.plusMonths(2).atDay(1)))).containsExactly(endsOnNextFirst);
+    }
+
+    @Test
+    @DisplayName("게시글 작성일 조회는 말일 작성 글을 포함하고 다음 달 1일 작성 글은 제외한다")
+    void findAllPostedBetween() {
+        long postedOnFirst = save("2024-03-05", "2024-03-05", "2024-03-01", false);
+        long postedOnLastDay = save("2024-04-05", "2024-04-05", "2024-03-31", false);
+        long postedOnNextFirst = save("2024-04-05", "2024-04-05", "2024-04-01", false);
+        long postedOnPreviousLastDay = save("2024-03-05", "2024-03-05", "2024-02-29", false);
+
+        List<Long> found = ids(officialCalendarRepository.findAllPostedBetween(
+                MARCH.atDay(1), MARCH.plusMonths(1).atDay(1)));
+
+        assertThat(found).containsExactlyInAnyOrder(postedOnFirst, postedOnLastDay);
+        assertThat(found).doesNotContain(postedOnNextFirst, postedOnPreviousLastDay);
+    }
+
+    @Test
+    @DisplayName("기간 조회와 작성일 조회는 각각의 날짜 인덱스를 탄다")
+    void explainUsesDateIndexes() {
+        String overlappingPlan = explain("SELECT * FROM official_calendar c " +
+                "WHERE c.is_deleted = false " +
+                "AND c.is_public = true " +
+                "AND c.start_date < ? " +
+                "AND c.end_date >= ?", MARCH.plusMonths(1).atDay(1), MARCH.atDay(1));
+
+        String postedPlan = explain("SELECT * FROM official_calendar c " +
+                "WHERE c.is_deleted = false " +
+                "AND c.inu_post_created_at >= ? " +
+                "AND c.inu_post_created_at < ?", MARCH.atDay(1), MARCH.plusMonths(1).atDay(1));
+
+        assertThat(overlappingPlan).containsIgnoringCase("idx_official_calendar_period");
+        assertThat(postedPlan).containsIgnoringCase("idx_official_calendar_inu_post_created_at");
+    }
+
+    private long save(String startDate, String endDate, String postedAt, boolean isPublic) {
+        return officialCalendarInsert.executeAndReturnKey(Map.of(
+                "inu_post_id", "1",
+                "inu_post_url", "https://bioeng.inu.ac.kr",
+                "inu_post_created_at", LocalDate.parse(postedAt),
+                "title", "기숙사 공지",
+                "start_date", LocalDate.parse(startDate),
+                "end_date", LocalDate.parse(endDate),
+                "is_public", isPublic,
+                "is_deleted", false
+        )).longValue();
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    private List<Long> ids(List<OfficialCalendar> calendars) {
+        return calendars.stream()
+                .map(OfficialCalendar::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,125 @@
+package idorm.idormServer.calendar.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import idorm.idormServer.calendar.domain.TeamCalendar;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:team_calendar;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RoomMateTeamCalendarRepositoryTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    @Autowired
+    private RoomMateTeamCalendarRepository teamCalendarRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private SimpleJdbcInsert teamCalendarInsert;
+    private long teamId;
+    private long otherTeamId;
+
+    @BeforeEach
+    void setUp() {
+        SimpleJdbcInsert teamInsert = new SimpleJdbcInsert(dataSource)
+                .withTableName("team")
+                .usingGeneratedKeyColumns("team_id");
+        teamId = teamInsert.executeAndReturnKey(Map.of("team_status", "ACTIVE")).longValue();
+        otherTeamId = teamInsert.executeAndReturnKey(Map.of("team_status", "ACTIVE")).longValue();
+
+        teamCalendarInsert = new SimpleJdbcInsert(dataSource)
+                .withTableName("team_calendar")
+                .usingGeneratedKeyColumns("team_schedule_id");
+    }
+
+    @Test
+    @DisplayName("월 조회는 [1일, 다음 달 1일) 과 겹치는 팀 일정만 반환한다")
+    void findOverlapping() {
+        long endsOnFirst = save(teamId, "2024-02-20", "2024-03-01", false);
+        long endsOnLastDayOfPreviousMonth = save(teamId, "2024-02-20", "2024-02-29", false);
+        long startsOnLastDay = save(teamId, "2024-03-31", "2024-04-02", false);
+        long startsOnNextFirst = save(teamId, "2024-04-01", "2024-04-03", false);
+        long sleepover = save(teamId, "2024-03-10", "2024-03-11", true);
+        long otherTeam = save(otherTeamId, "2024-03-10", "2024-03-11", false);
+
+        List<Long> found = ids(teamCalendarRepository.findOverlapping(teamId,
+                MARCH.atDay(1), MARCH.plusMonths(1).atDay(1), false));
+
+        assertThat(found).containsExactlyInAnyOrder(endsOnFirst, startsOnLastDay);
+        assertThat(found).doesNotContain(endsOnLastDayOfPreviousMonth, startsOnNextFirst, sleepover, otherTeam);
+    }
+
+    @Test
+    @DisplayName("외박 중복 검사 범위 [시작일, 종료일 + 1) 은 종료일에 시작하는 외박을 포함하고 다음 날 시작하는 외박은 제외한다")
+    void findOverlappingSleepovers() {
+        long startsOnEndDate = save(teamId, "2024-03-31", "2024-04-01", true);
+        long startsOnNextDay = save(teamId, "2024-04-01", "2024-04-02", true);
+        long endsOnStartDate = save(teamId, "2024-03-29", "2024-03-30", true);
+
+        LocalDate startDate = LocalDate.of(2024, 3, 30);
+        LocalDate endDate = LocalDate.of(2024, 3, 31);
+
+        List<Long> found = ids(teamCalendarRepository.findOverlapping(teamId,
+                startDate, endDate.plusDays(1), true));
+
+        assertThat(found).containsExactlyInAnyOrder(startsOnEndDate, endsOnStartDate);
+        assertThat(found).doesNotContain(startsOnNextDay);
+    }
+
+    @Test
+    @DisplayName("기간 조회는 (team_id, is_deleted, start_date, end_date) 인덱스를 탄다")
+    void explainUsesTeamPeriodIndex() {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM team_calendar c " +
+                        "WHERE c.team_id = ? " +
+                        "AND c.is_deleted = false " +
+                        "AND c.start_date < ? " +
+                        "AND c.end_date >= ? " +
+                        "AND c.is_sleepover = ?",
+                String.class, teamId, MARCH.plusMonths(1).atDay(1), MARCH.atDay(1), false);
+
+        assertThat(plan).containsIgnoringCase("idx_team_calendar_team_period");
+    }
+
+    private long save(long teamId, String startDate, String endDate, boolean isSleepover) {
+        return teamCalendarInsert.executeAndReturnKey(Map.of(
+                "team_id", teamId,
+                "title", "팀 일정",
+                "content", "내용",
+                "start_date", LocalDate.parse(startDate),
+                "end_date", LocalDate.parse(endDate),
+                "is_sleepover", isSleepover,
+                "is_deleted", false
+        )).longValue();
+    }
+
+    private List<Long> ids(List<TeamCalendar> calendars) {
+        return calendars.stream()
+                .map(TeamCalendar::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,179 @@
+package idorm.idormServer.common.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import idorm.idormServer.calendar.domain.OfficialCalendar;
+import idorm.idormServer.calendar.dto.CrawledOfficialCalendarResponse;
+import idorm.idormServer.calendar.service.OfficialCalendarService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OfficialCalendarCrawlerTest {
+
+    private static final String BOARD_PATH = "/dorm/6528/subview.do";
+    private static final String TODAY = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
+
+    private final OfficialCalendarService officialCalendarService = mock(OfficialCalendarService.class);
+    private final Set<String> savedPostIds = new HashSet<>();
+    private final StubBoard board = new StubBoard();
+
+    private HttpServer server;
+    private OfficialCalendarCrawler crawler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(BOARD_PATH, board::handle);
+        server.start();
+
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + BOARD_PATH;
+        crawler = new OfficialCalendarCrawler(officialCalendarService, url, Duration.ofSeconds(5));
+
+        when(officialCalendarService.findSavedInuPostIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> postIds = invocation.getArgument(0);
+            return postIds.stream().filter(savedPostIds::contains).collect(Collectors.toSet());
+        });
+        when(officialCalendarService.save(anyString(), anyString(), any(), anyString())).thenAnswer(invocation -> {
+            savedPostIds.add(invocation.getArgument(0));
+            return OfficialCalendar.builder()
+                    .inuPostId(invocation.getArgument(0))
+                    .title(invocation.getArgument(1))
+                    .inuPostCreatedAt(invocation.getArgument(2))
+                    .inuPostUrl(invocation.getArgument(3))
+                    .build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("게시판이 바뀌지 않았으면 If-None-Match 로 304 를 받고 아무것도 저장하지 않는다")
+    void crawlNotModifiedBoard() {
+        board.publish("\"v1\"", post(102), post(101));
+
+        assertThat(postIds(crawler.crawlPosts())).containsExactly("102", "101");
+        assertThat(board.lastIfNoneMatch).isNull();
+
+        assertThat(crawler.crawlPosts()).isEmpty();
+        assertThat(board.lastIfNoneMatch).isEqualTo("\"v1\"");
+        assertThat(board.notModifiedCount).isEqualTo(1);
+        verify(officialCalendarService, times(2)).save(anyString(), anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("고정 공지는 건너뛰고, 이미 확인한 게시글을 만나면 파싱을 멈춘다")
+    void crawlUntilLastSeenPost() {
+        board.publish("\"v1\"", pinned(100), post(103), post(102));
+        assertThat(postIds(crawler.crawlPosts())).containsExactly("100", "103", "102");
+
+        board.publish("\"v2\"", pinned(100), post(105), post(104), post(103), post(99));
+
+        assertThat(postIds(crawler.crawlPosts())).containsExactly("105", "104");
+        verify(officialCalendarService).findSavedInuPostIds(List.of("105", "104"));
+    }
+
+    @Test
+    @DisplayName("저장 개수 제한으로 남은 게시글은 다음 크롤링에서 저장한다")
+    void crawlRemainingPostsAfterLimit() {
+        List<String> rows = new ArrayList<>();
+        for (long postId = 112; postId >= 101; postId--)
+            rows.add(post(postId));
+        board.publish("\"v1\"", rows.toArray(String[]::new));
+
+        assertThat(crawler.crawlPosts()).hasSize(10);
+
+        assertThat(postIds(crawler.crawlPosts())).containsExactly("102", "101");
+        assertThat(board.lastIfNoneMatch).isNull();
+
+        assertThat(crawler.crawlPosts()).isEmpty();
+        assertThat(board.lastIfNoneMatch).isEqualTo("\"v1\"");
+        assertThat(savedPostIds).hasSize(12);
+    }
+
+    private static List<String> postIds(List<CrawledOfficialCalendarResponse> responses) {
+        return responses.stream()
+                .map(CrawledOfficialCalendarResponse::getInuPostId)
+                .collect(Collectors.toList());
+    }
+
+    private static String post(long postId) {
+        return row("", postId);
+    }
+
+    private static String pinned(long postId) {
+        return row(" class=\"notice\"", postId);
+    }
+
+    private static String row(String attributes, long postId) {
+        return "<tr" + attributes + ">"
+                + "<td class=\"td-subject\"><a href=\"/bbs/dorm/2002/" + postId + "/artclView.do\">"
+                + "<strong>공지 " + postId + "</strong></a></td>"
+                + "<td class=\"td-date\">" + TODAY + "</td>"
+                + "</tr>";
+    }
+
+    /**
+     * 생활원 공지 게시판 대역 |
+     * 게시한 목록을 ETag 와 함께 내려주고, If-None-Match 가 현재 ETag 와 같으면 304 를 돌려준다.
+     */
+    private static class StubBoard {
+
+        private volatile String page;
+        private volatile String eTag;
+        private volatile String lastIfNoneMatch;
+        private volatile int notModifiedCount;
+
+        void publish(String eTag, String... rows) {
+            this.eTag = eTag;
+            this.page = "<html><body><table class=\"board-table\"><tbody>"
+                    + String.join("", rows)
+                    + "</tbody></table></body></html>";
+        }
+
+        void handle(HttpExchange exchange) throws IOException {
+            lastIfNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+
+            if (eTag.equals(lastIfNoneMatch)) {
+                notModifiedCount++;
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+
+            byte[] body = page.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            exchange.getResponseHeaders().set("ETag", eTag);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package idorm.idormServer.matchingMate.domain;
+
+import static idorm.idormServer.matchingMate.domain.MatchingCandidateFixture.candidate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CandidateBucketTest {
+
+    private static final int ALL_FLAGS = 0x1F;
+
+    @Test
+    @DisplayName("빈 묶음은 어떤 조건이든 빈 목록을 반환한다")
+    void filterEmptyBucket() {
+        CandidateBucket bucket = CandidateBucket.of(List.of());
+
+        assertThat(bucket.filter(0, 20, 50)).isEmpty();
+        assertThat(bucket.filter(ALL_FLAGS, 20, 50)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제외 플래그가 켜진 선호 정보를 가진 후보만 제외한다")
+    void filterExcludesFlaggedPreferences() {
+        CandidateBucket bucket = CandidateBucket.of(List.of(
+                candidate(1L, 25, 0),
+                candidate(2L, 25, MatchingCandidate.SNORING),
+                candidate(3L, 25, MatchingCandidate.SMOKING),
+                candidate(4L, 25, MatchingCandidate.SNORING | MatchingCandidate.SMOKING)));
+
+        assertThat(memberIds(bucket.filter(0, 20, 50))).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(memberIds(bucket.filter(MatchingCandidate.SNORING, 20, 50))).containsExactly(1L, 3L);
+        assertThat(memberIds(bucket.filter(MatchingCandidate.SNORING | MatchingCandidate.SMOKING, 20, 50)))
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("나이 범위는 최소, 최대 나이를 모두 포함한다")
+    void filterAgeBoundsAreInclusive() {
+        CandidateBucket bucket = CandidateBucket.of(List.of(
+                candidate(1L, 21, 0),
+                candidate(2L, 22, 0),
+                candidate(3L, 23, 0),
+                candidate(4L, 24, 0)));
+
+        assertThat(memberIds(bucket.filter(0, 22, 23))).containsExactly(2L, 3L);
+        assertThat(memberIds(bucket.filter(0, 22, 22))).containsExactly(2L);
+        assertThat(bucket.filter(0, 25, 30)).isEmpty();
+        assertThat(bucket.filter(0, 23, 22)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("64명을 넘는 묶음에서도 비트셋 경계와 관계없이 기존 JPQL 조건과 같은 결과를 반환한다")
+    void filterMatchesJpqlSemanticsAcrossWords() {
+        Random random = new Random(20240501L);
+        List<MatchingCandidate> candidates = new ArrayList<>();
+        for (long memberId = 1; memberId <= 300; memberId++) {
+            candidates.add(candidate(memberId, 20 + random.nextInt(31), random.nextInt(ALL_FLAGS + 1)));
+        }
+        CandidateBucket bucket = CandidateBucket.of(candidates);
+
+        for (int excludedFlags = 0; excludedFlags <= ALL_FLAGS; excludedFlags++) {
+            for (int i = 0; i < 20; i++) {
+                int minAge = 20 + random.nextInt(31);
+                int maxAge = minAge + random.nextInt(51 - minAge);
+
+                assertThat(memberIds(bucket.filter(excludedFlags, minAge, maxAge)))
+                        .containsExactlyInAnyOrderElementsOf(jpqlFilter(candidates, excludedFlags, minAge, maxAge));
+            }
+        }
+    }
+
+    /**
+     * 제거된 MatchingInfoRepository.findFilteredMatchingMembers 조건 |
+     * 선호 정보마다 (m.flag = !request.flag OR m.flag = false), 나이는 m.age >= minAge AND m.age <= maxAge 이다.
+     */
+    private List<Long> jpqlFilter(List<MatchingCandidate> candidates, int excludedFlags, int minAge, int maxAge) {
+        return candidates.stream()
+                .filter(candidate -> {
+                    for (int flag = 1; flag <= ALL_FLAGS; flag <<= 1) {
+                        boolean requestFlag = (excludedFlags & flag) != 0;
+                        boolean candidateFlag = (candidate.getPreferenceFlags() & flag) != 0;
+                        if (!(candidateFlag == !requestFlag || !candidateFlag))
+                            return false;
+                    }
+                    return candidate.getAge() >= minAge && candidate.getAge() <= maxAge;
+                })
+                .map(MatchingCandidate::getMemberId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> memberIds(List<MatchingCandidate> candidates) {
+        return candidates.stream()
+                .map(MatchingCandidate::getMemberId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,68 @@
+package idorm.idormServer.matchingMate.domain;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import idorm.idormServer.matchingInfo.domain.Age;
+import idorm.idormServer.matchingInfo.domain.DormCategory;
+import idorm.idormServer.matchingInfo.domain.DormInfo;
+import idorm.idormServer.matchingInfo.domain.Gender;
+import idorm.idormServer.matchingInfo.domain.JoinPeriod;
+import idorm.idormServer.matchingInfo.domain.MatchingInfo;
+import idorm.idormServer.matchingInfo.domain.PreferenceInfo;
+import idorm.idormServer.matchingInfo.domain.SharedURL;
+import idorm.idormServer.matchingInfo.domain.TextInfo;
+import idorm.idormServer.member.domain.Member;
+
+public class MatchingCandidateFixture {
+
+    private MatchingCandidateFixture() {
+    }
+
+    public static MatchingInfo matchingInfo(long memberId, int age, int preferenceFlags) {
+        return matchingInfo(memberId, age, preferenceFlags, "아침 7시", "밤 11시");
+    }
+
+    public static MatchingInfo matchingInfo(long memberId, int age, int preferenceFlags,
+                                            String wakeUpTime, String showerTime) {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(memberId);
+
+        DormInfo dormInfo = DormInfo.builder()
+                .dormCategory(DormCategory.DORM1)
+                .joinPeriod(JoinPeriod.WEEK16)
+                .gender(Gender.FEMALE)
+                .build();
+
+        PreferenceInfo preferenceInfo = PreferenceInfo.builder()
+                .isSnoring((preferenceFlags & MatchingCandidate.SNORING) != 0)
+                .isGrinding((preferenceFlags & MatchingCandidate.GRINDING) != 0)
+                .isSmoking((preferenceFlags & MatchingCandidate.SMOKING) != 0)
+                .isAllowedFood((preferenceFlags & MatchingCandidate.ALLOWED_FOOD) != 0)
+                .isWearEarphones((preferenceFlags & MatchingCandidate.WEAR_EARPHONES) != 0)
+                .age(new Age(age))
+                .build();
+
+        TextInfo textInfo = TextInfo.builder()
+                .wakeUpTime(wakeUpTime)
+                .cleanUpStatus("주 1회")
+                .showerTime(showerTime)
+                .wishText("잘 지내요")
+                .mbti("ENFP")
+                .build();
+
+        MatchingInfo matchingInfo = mock(MatchingInfo.class);
+        when(matchingInfo.getId()).thenReturn(memberId * 10);
+        when(matchingInfo.getMember()).thenReturn(member);
+        when(matchingInfo.getDormInfo()).thenReturn(dormInfo);
+        when(matchingInfo.getPreferenceInfo()).thenReturn(preferenceInfo);
+        when(matchingInfo.getTextInfo()).thenReturn(textInfo);
+        when(matchingInfo.getOpenKakaoLink()).thenReturn(new SharedURL("https://open.kakao.com/o/idorm"));
+        when(matchingInfo.getIsPublic()).thenReturn(true);
+        return matchingInfo;
+    }
+
+    public static MatchingCandidate candidate(long memberId, int age, int preferenceFlags) {
+        return MatchingCandidate.from(matchingInfo(memberId, age, preferenceFlags));
+    }
+}
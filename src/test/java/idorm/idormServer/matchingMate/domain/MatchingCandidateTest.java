@@ -0,0 +1,37 @@
+package idorm.idormServer.matchingMate.domain;
+
+import static idorm.idormServer.matchingMate.domain.MatchingCandidateFixture.matchingInfo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MatchingCandidateTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+            "오전 12시, 0",
+            "새벽 12시, 0",
+            "밤 12시, 0",
+            "오후 12시, 12",
+            "오전 9시, 9",
+            "아침 7시 기상, 7",
+            "오후 3시, 15",
+            "저녁 6시, 18",
+            "밤 1시, 1",
+            "밤 2시 취침, 2",
+            "밤 6시, 18",
+            "밤 11시, 23",
+            "23시, 23",
+            "24시, 0",
+            "정해진 시간 없음, -1"
+    })
+    @DisplayName("자유 입력 시각을 0 ~ 23 시로 해석한다")
+    void parseHour(String time, int expectedHour) {
+        MatchingCandidate candidate = MatchingCandidate.from(matchingInfo(1L, 22, 0, time, time));
+
+        assertThat(candidate.getWakeUpHour()).isEqualTo(expectedHour);
+        assertThat(candidate.getShowerHour()).isEqualTo(expectedHour);
+    }
+}
@@ -0,0 +1,29 @@
+package idorm.idormServer.matchingMate.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import idorm.idormServer.matchingMate.domain.MatchingCandidate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MatchingMateFilterRequestTest {
+
+    @Test
+    @DisplayName("요청에서 true인 선호 정보는 제외 플래그가 된다")
+    void trueRequestFlagMeansExclude() {
+        MatchingMateFilterRequest request = new MatchingMateFilterRequest("DORM1", "WEEK16", 20, 30,
+                true, false, true, false, false);
+
+        assertThat(request.toExcludedPreferenceFlags())
+                .isEqualTo(MatchingCandidate.SNORING | MatchingCandidate.SMOKING);
+    }
+
+    @Test
+    @DisplayName("모든 선호 정보가 false면 아무 후보도 제외하지 않는다")
+    void allFalseExcludesNothing() {
+        MatchingMateFilterRequest request = new MatchingMateFilterRequest("DORM1", "WEEK16", 20, 30,
+                false, false, false, false, false);
+
+        assertThat(request.toExcludedPreferenceFlags()).isZero();
+    }
+}
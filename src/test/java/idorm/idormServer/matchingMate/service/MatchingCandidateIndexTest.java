@@ -0,0 +1,61 @@
+package idorm.idormServer.matchingMate.service;
+
+import static idorm.idormServer.matchingMate.domain.MatchingCandidateFixture.matchingInfo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import idorm.idormServer.matchingInfo.domain.DormCategory;
+import idorm.idormServer.matchingInfo.domain.Gender;
+import idorm.idormServer.matchingInfo.domain.JoinPeriod;
+import idorm.idormServer.matchingInfo.domain.MatchingInfo;
+import idorm.idormServer.matchingInfo.repository.MatchingInfoRepository;
+import idorm.idormServer.matchingMate.domain.MatchingCandidate;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MatchingCandidateIndexTest {
+
+    private final MatchingInfoRepository matchingInfoRepository = mock(MatchingInfoRepository.class);
+    private final Clock clock = Clock.fixed(Instant.parse("2024-05-01T00:00:00Z"), ZoneOffset.UTC);
+    private final MatchingCandidateIndex index = new MatchingCandidateIndex(matchingInfoRepository, clock);
+
+    @Test
+    @DisplayName("필터링 조회는 묶음을 한 번만 적재하고 제외 플래그와 나이 범위를 적용한다")
+    void findFilteredCandidates() {
+        List<MatchingInfo> matchingInfos = List.of(
+                matchingInfo(1L, 22, 0),
+                matchingInfo(2L, 22, MatchingCandidate.SMOKING),
+                matchingInfo(3L, 40, 0));
+        when(matchingInfoRepository.findAllPublicByDormInfo(DormCategory.DORM1, JoinPeriod.WEEK16, Gender.FEMALE))
+                .thenReturn(matchingInfos);
+
+        List<MatchingCandidate> first = index.findFilteredCandidates(DormCategory.DORM1, JoinPeriod.WEEK16,
+                Gender.FEMALE, MatchingCandidate.SMOKING, 20, 30);
+        List<MatchingCandidate> second = index.findFilteredCandidates(DormCategory.DORM1, JoinPeriod.WEEK16,
+                Gender.FEMALE, 0, 20, 50);
+
+        assertThat(first.stream().map(MatchingCandidate::getMemberId).collect(Collectors.toList()))
+                .containsExactly(1L);
+        assertThat(second).hasSize(3);
+        verify(matchingInfoRepository, times(1))
+                .findAllPublicByDormInfo(DormCategory.DORM1, JoinPeriod.WEEK16, Gender.FEMALE);
+    }
+
+    @Test
+    @DisplayName("빈 묶음은 빈 목록을 반환한다")
+    void findFilteredCandidatesFromEmptyBucket() {
+        when(matchingInfoRepository.findAllPublicByDormInfo(DormCategory.DORM2, JoinPeriod.WEEK24, Gender.MALE))
+                .thenReturn(List.of());
+
+        assertThat(index.findFilteredCandidates(DormCategory.DORM2, JoinPeriod.WEEK24, Gender.MALE, 0, 20, 50))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package idorm.idormServer.support.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import idorm.idormServer.auth.dto.AuthInfo;
+import idorm.idormServer.common.util.Sha256;
+import java.time.Clock;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "idorm-test-secret-key-idorm-test-secret-key";
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(SECRET_KEY, 60_000L, 120_000L, Clock.systemUTC());
+
+    @Test
+    @DisplayName("발급한 액세스 토큰을 검증하면 같은 회원 정보를 돌려준다")
+    void verifyCreatedAccessToken() {
+        String accessToken = jwtTokenProvider.createAccessToken(new AuthInfo(1L, "ROLE_USER", "도미"));
+
+        Optional<AuthInfo> verified = jwtTokenProvider.verify(accessToken);
+
+        assertThat(verified).isPresent();
+        assertThat(verified.get().getId()).isEqualTo(1L);
+        assertThat(verified.get().getRole()).isEqualTo("ROLE_USER");
+        assertThat(verified.get().getNickname()).isEqualTo("도미");
+    }
+
+    @Test
+    @DisplayName("캐시된 검증 결과도 같은 회원 정보를 돌려준다")
+    void verifyCreatedAccessTokenTwice() {
+        String accessToken = jwtTokenProvider.createAccessToken(new AuthInfo(2L, "ROLE_USER", "이돔"));
+
+        jwtTokenProvider.verify(accessToken);
+
+        assertThat(jwtTokenProvider.verify(accessToken).map(AuthInfo::getId)).contains(2L);
+    }
+
+    @Test
+    @DisplayName("발급한 액세스 토큰에서 회원 정보를 꺼낸다")
+    void getParsedClaims() {
+        String accessToken = jwtTokenProvider.createAccessToken(new AuthInfo(3L, "ROLE_USER", "아이돔"));
+
+        AuthInfo authInfo = jwtTokenProvider.getParsedClaims(accessToken);
+
+        assertThat(authInfo.getId()).isEqualTo(3L);
+        assertThat(authInfo.getNickname()).isEqualTo("아이돔");
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 검증하지 않는다")
+    void verifyForeignToken() {
+        JwtTokenProvider other = new JwtTokenProvider(SECRET_KEY + "-other", 60_000L, 120_000L, Clock.systemUTC());
+
+        assertThat(jwtTokenProvider.verify(other.createAccessToken(new AuthInfo(1L, "ROLE_USER", "도미"))))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 초에 발급한 리프레시 토큰도 서로 다르고 해시도 겹치지 않는다")
+    void createRefreshTokensWithinSameSecond() {
+        String first = jwtTokenProvider.createRefreshToken();
+        String second = jwtTokenProvider.createRefreshToken();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(Sha256.hex(first)).isNotEqualTo(Sha256.hex(second));
+    }
+}